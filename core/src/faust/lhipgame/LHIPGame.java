@@ -4,7 +4,11 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import faust.lhipgame.game.gameentities.GameEntity;
 import faust.lhipgame.game.music.MusicManager;
+import faust.lhipgame.game.render.SolidFillRenderer;
+import faust.lhipgame.game.rooms.manager.RoomTemplateCache;
 import faust.lhipgame.saves.SaveFileManager;
 import faust.lhipgame.screens.CameraManager;
 import faust.lhipgame.screens.FBTScreen;
@@ -17,34 +21,62 @@ public class LHIPGame extends Game {
     private SpriteBatch batch;
     private AssetManager assetManager;
     private CameraManager cameraManager;
+    private SolidFillRenderer solidFillRenderer;
     private SaveFileManager saveFileManager;
     private MusicManager musicManager;
+    private RoomTemplateCache roomTemplateCache;
+    private final boolean profilerEnabled;
+
+    public LHIPGame() {
+        this(false);
+    }
+
+    /**
+     * @param profilerEnabled true if the frame profiler overlay must be shown from start
+     */
+    public LHIPGame(boolean profilerEnabled) {
+        this.profilerEnabled = profilerEnabled;
+    }
 
     @Override
     public void create() {
         batch = new SpriteBatch();
         assetManager = new AssetManager();
-        cameraManager = new CameraManager();
         saveFileManager = new SaveFileManager();
         musicManager = new MusicManager();
+        roomTemplateCache = new RoomTemplateCache();
 
         assetManager.load("splash/fbt_splash.png", Texture.class);
+        assetManager.load(GameEntity.ATLAS_FILE, TextureAtlas.class);
         assetManager.finishLoading();
 
+        solidFillRenderer = new SolidFillRenderer(GameEntity.getAtlasRegion(assetManager, "white_pixel"));
+        cameraManager = new CameraManager(solidFillRenderer);
+
         setScreen(new FBTScreen(this));
     }
 
+    @Override
+    public void render() {
+        // Every screen is rendered at native resolution and then upscaled
+        cameraManager.beginFrame();
+        super.render();
+        cameraManager.endFrame(batch);
+    }
+
     @Override
     public void dispose() {
 
         getScreen().dispose();
         assetManager.dispose();
         cameraManager.dispose();
+        roomTemplateCache.dispose();
         batch.dispose();
     }
 
     @Override
     public void resize(int width, int height) {
+        super.resize(width, height);
     }
 
     public SpriteBatch getBatch() {
@@ -59,8 +91,20 @@ public class LHIPGame extends Game {
         return cameraManager;
     }
 
+    public SolidFillRenderer getSolidFillRenderer() {
+        return solidFillRenderer;
+    }
+
     public SaveFileManager getSaveFileManager() { return saveFileManager;}
 
+    public RoomTemplateCache getRoomTemplateCache() {
+        return roomTemplateCache;
+    }
+
+    public boolean isProfilerEnabled() {
+        return profilerEnabled;
+    }
+
     public MusicManager getMusicManager() {
         return musicManager;
     }
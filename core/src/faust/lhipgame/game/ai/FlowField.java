@@ -0,0 +1,244 @@
+package faust.lhipgame.game.ai;
+
+import com.badlogic.gdx.math.MathUtils;
+import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.rooms.TerrainGrid;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Flow field over the tile grid of a room, pointing each cell towards a target.
+ * It is computed once for all the chasing instances and only when the target moves
+ * to another cell, so sampling it costs the same whatever the number of chasers.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class FlowField {
+
+    public static final int LAND_COST = 1;
+    public static final int WATER_COST = 2;
+
+    private static final int CELL_SIZE = 16;
+    private static final int COLUMNS = (LHIPGame.GAME_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+    private static final int ROWS = (LHIPGame.GAME_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+    private static final int CELLS = COLUMNS * ROWS;
+    private static final float AGENT_RADIUS = 4; // Half size of chasers bodies
+    private static final int BLOCKED = 0;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    // Neighbour offsets, orthogonal first
+    private static final int[] NEIGHBOUR_COLUMNS = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_ROWS = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final int ORTHOGONAL_NEIGHBOURS = 4;
+
+    private final int[] costs = new int[CELLS];
+    private final int[] distances = new int[CELLS];
+    private final float[] flowX = new float[CELLS];
+    private final float[] flowY = new float[CELLS];
+
+    // Work queue of the distances computation
+    private final int[] queue = new int[CELLS];
+    private final boolean[] inQueue = new boolean[CELLS];
+
+    private int targetCell = NONE;
+
+    public FlowField() {
+        Arrays.fill(costs, LAND_COST);
+    }
+
+    /**
+     * Sets the cost of crossing the cells not blocked from the terrain in their center,
+     * water being slower to cross
+     *
+     * @param terrainGrid
+     */
+    public void setTerrainCosts(final TerrainGrid terrainGrid) {
+        Objects.requireNonNull(terrainGrid);
+
+        for (int i = 0; i < CELLS; i++) {
+            if (costs[i] != BLOCKED) {
+                costs[i] = terrainGrid.isWater(getCenterX(i), getCenterY(i)) ? WATER_COST : LAND_COST;
+            }
+        }
+        targetCell = NONE;
+    }
+
+    /**
+     * Blocks the cells where a chaser would overlap a rectangle
+     *
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     */
+    public void blockRectangle(float x, float y, float width, float height) {
+        for (int i = 0; i < CELLS; i++) {
+            final float centerX = getCenterX(i);
+            final float centerY = getCenterY(i);
+            if (centerX >= x - AGENT_RADIUS && centerX <= x + width + AGENT_RADIUS &&
+                    centerY >= y - AGENT_RADIUS && centerY <= y + height + AGENT_RADIUS) {
+                costs[i] = BLOCKED;
+            }
+        }
+        targetCell = NONE;
+    }
+
+    /**
+     * Recomputes the field if the target is in a different cell from last time
+     *
+     * @param targetX
+     * @param targetY
+     * @return true if the field has been recomputed
+     */
+    public boolean update(float targetX, float targetY) {
+        final int cell = cellOf(targetX, targetY);
+        if (cell == targetCell) {
+            return false;
+        }
+
+        targetCell = cell;
+        computeDistances();
+        computeFlow();
+        return true;
+    }
+
+    /**
+     * Computes the path cost of each cell to the target cell, on orthogonal moves
+     */
+    private void computeDistances() {
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(inQueue, false);
+
+        // Target cell is always the source, even if blocked
+        int head = 0;
+        int size = 0;
+        distances[targetCell] = 0;
+        queue[0] = targetCell;
+        inQueue[targetCell] = true;
+        size++;
+
+        while (size > 0) {
+            final int cell = queue[head];
+            head = (head + 1) % CELLS;
+            size--;
+            inQueue[cell] = false;
+
+            final int column = cell % COLUMNS;
+            final int row = cell / COLUMNS;
+            for (int n = 0; n < ORTHOGONAL_NEIGHBOURS; n++) {
+                final int neighbour = getCell(column + NEIGHBOUR_COLUMNS[n], row + NEIGHBOUR_ROWS[n]);
+                if (neighbour == NONE || costs[neighbour] == BLOCKED) {
+                    continue;
+                }
+
+                final int distance = distances[cell] + costs[neighbour];
+                if (distance < distances[neighbour]) {
+                    distances[neighbour] = distance;
+                    if (!inQueue[neighbour]) {
+                        queue[(head + size) % CELLS] = neighbour;
+                        inQueue[neighbour] = true;
+                        size++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Points each reachable cell towards its nearest neighbour, diagonals included
+     * when not cutting a blocked corner
+     */
+    private void computeFlow() {
+        for (int cell = 0; cell < CELLS; cell++) {
+            flowX[cell] = 0;
+            flowY[cell] = 0;
+
+            if (cell == targetCell || distances[cell] == UNREACHABLE) {
+                continue;
+            }
+
+            final int column = cell % COLUMNS;
+            final int row = cell / COLUMNS;
+            int best = NONE;
+            int bestDistance = distances[cell];
+
+            for (int n = 0; n < NEIGHBOUR_COLUMNS.length; n++) {
+                final int neighbourColumn = column + NEIGHBOUR_COLUMNS[n];
+                final int neighbourRow = row + NEIGHBOUR_ROWS[n];
+                final int neighbour = getCell(neighbourColumn, neighbourRow);
+                if (neighbour == NONE || distances[neighbour] >= bestDistance) {
+                    continue;
+                }
+
+                if (n >= ORTHOGONAL_NEIGHBOURS &&
+                        (isBlocked(getCell(neighbourColumn, row)) || isBlocked(getCell(column, neighbourRow)))) {
+                    continue;
+                }
+
+                best = neighbour;
+                bestDistance = distances[neighbour];
+            }
+
+            if (best != NONE) {
+                final float dx = getCenterX(best) - getCenterX(cell);
+                final float dy = getCenterY(best) - getCenterY(cell);
+                final float length = (float) Math.sqrt(dx * dx + dy * dy);
+                flowX[cell] = dx / length;
+                flowY[cell] = dy / length;
+            }
+        }
+    }
+
+    /**
+     * @return true if a chaser in this position has a direction to follow. False
+     * if in the target cell or if the target cannot be reached from here
+     */
+    public boolean hasFlow(float x, float y) {
+        if (targetCell == NONE) {
+            return false;
+        }
+        final int cell = cellOf(x, y);
+        return flowX[cell] != 0 || flowY[cell] != 0;
+    }
+
+    /**
+     * @return horizontal component of the unit flow direction in this position
+     */
+    public float getFlowX(float x, float y) {
+        return flowX[cellOf(x, y)];
+    }
+
+    /**
+     * @return vertical component of the unit flow direction in this position
+     */
+    public float getFlowY(float x, float y) {
+        return flowY[cellOf(x, y)];
+    }
+
+    private boolean isBlocked(int cell) {
+        return cell == NONE || costs[cell] == BLOCKED;
+    }
+
+    private static int getCell(int column, int row) {
+        if (column < 0 || column >= COLUMNS || row < 0 || row >= ROWS) {
+            return NONE;
+        }
+        return row * COLUMNS + column;
+    }
+
+    private static int cellOf(float x, float y) {
+        final int column = MathUtils.clamp(MathUtils.floor(x / CELL_SIZE), 0, COLUMNS - 1);
+        final int row = MathUtils.clamp(MathUtils.floor(y / CELL_SIZE), 0, ROWS - 1);
+        return row * COLUMNS + column;
+    }
+
+    private static float getCenterX(int cell) {
+        return (cell % COLUMNS) * CELL_SIZE + CELL_SIZE / 2f;
+    }
+
+    private static float getCenterY(int cell) {
+        return (cell / COLUMNS) * CELL_SIZE + CELL_SIZE / 2f;
+    }
+}
@@ -0,0 +1,99 @@
+package faust.lhipgame.game.ai;
+
+import com.badlogic.gdx.math.Vector2;
+import faust.lhipgame.game.gameentities.enums.Direction;
+
+import java.util.Objects;
+
+/**
+ * Allocation free steering behaviours for instances AI. All the behaviours work on
+ * plain coordinates and return a scratch vector owned by this class, which is valid
+ * only until the next call. To be used on the main thread only.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public final class Steering {
+
+    private static final Vector2 result = new Vector2();
+
+    private Steering() {
+    }
+
+    /**
+     * @return the velocity for moving from a position towards a target, zero if already there
+     */
+    public static Vector2 seek(float fromX, float fromY, float targetX, float targetY, float speed) {
+        return result.set(targetX - fromX, targetY - fromY).nor().scl(speed);
+    }
+
+    /**
+     * @return the velocity for moving from a position away from a threat, zero if in the same position
+     */
+    public static Vector2 flee(float fromX, float fromY, float threatX, float threatY, float speed) {
+        return result.set(fromX - threatX, fromY - threatY).nor().scl(speed);
+    }
+
+    /**
+     * @return the velocity of a push away from an attacker
+     */
+    public static Vector2 knockback(float fromX, float fromY, float attackerX, float attackerY, float speed) {
+        return flee(fromX, fromY, attackerX, attackerY, speed);
+    }
+
+    /**
+     * Seeks a target, slowing down linearly when nearer than slowingRadius
+     *
+     * @return the velocity for arriving on the target
+     */
+    public static Vector2 arrive(float fromX, float fromY, float targetX, float targetY, float maxSpeed, float slowingRadius) {
+        final float distance2 = distance2(fromX, fromY, targetX, targetY);
+        if (distance2 >= slowingRadius * slowingRadius) {
+            return seek(fromX, fromY, targetX, targetY, maxSpeed);
+        }
+        return seek(fromX, fromY, targetX, targetY, maxSpeed * (float) Math.sqrt(distance2) / slowingRadius);
+    }
+
+    /**
+     * Chases a target following a flow field around obstacles. Where the field has no
+     * direction, as in the same cell of the target, arrives on it in straight line
+     *
+     * @param flowField     may be null, for straight line only
+     * @param slowingRadius see arrive, zero for never slowing down
+     * @return the velocity for pursuing the target
+     */
+    public static Vector2 pursue(final FlowField flowField, float fromX, float fromY, float targetX, float targetY, float speed, float slowingRadius) {
+        if (Objects.nonNull(flowField) && flowField.hasFlow(fromX, fromY)) {
+            return result.set(flowField.getFlowX(fromX, fromY), flowField.getFlowY(fromX, fromY)).scl(speed);
+        }
+        return arrive(fromX, fromY, targetX, targetY, speed, slowingRadius);
+    }
+
+    /**
+     * @return the squared distance between two positions
+     */
+    public static float distance2(float fromX, float fromY, float toX, float toY) {
+        final float dx = toX - fromX;
+        final float dy = toY - fromY;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * @return the Direction faced while moving along a vector of any length
+     */
+    public static Direction facing(float x, float y) {
+        // Same as comparing the normal components with 0.5, without normalizing
+        final float halfLength2 = (x * x + y * y) * 0.25f;
+
+        if (x < 0 && x * x >= halfLength2) {
+            return Direction.LEFT;
+        } else if (x > 0 && x * x > halfLength2) {
+            return Direction.RIGHT;
+        }
+
+        if (y < 0) {
+            return Direction.DOWN;
+        } else {
+            return Direction.UP;
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package faust.lhipgame.game.echoes.enums;
 
 public enum EchoesActorType {
-    DISCIPULUS("echo.discipulus.json","sprites/discipulus_sheet.png"),
-    VICTIM("echo.victim.json","sprites/victim_sheet.png"),
-    WOMAN("echo.woman.json","sprites/woman_sheet.png"),
-    DEAD_HAND("echo.hand.json","sprites/hand_sheet.png"),
-    DEAD_DOUBLE_HAND("echo.hands.json","sprites/double_hand_sheet.png");
+    DISCIPULUS("echo.discipulus.json","discipulus_sheet"),
+    VICTIM("echo.victim.json","victim_sheet"),
+    WOMAN("echo.woman.json","woman_sheet"),
+    DEAD_HAND("echo.hand.json","hand_sheet"),
+    DEAD_DOUBLE_HAND("echo.hands.json","double_hand_sheet");
 
     private final String filename;
-    private final String spriteFilename;
+    private final String spriteRegionName;
 
-    EchoesActorType(String filename, String spriteFilename) {
+    EchoesActorType(String filename, String spriteRegionName) {
         this.filename = filename;
-        this.spriteFilename = spriteFilename;
+        this.spriteRegionName = spriteRegionName;
     }
 
     public String getFilename() {
@@ -28,7 +28,7 @@ public enum EchoesActorType {
         return null;
     }
 
-    public String getSpriteFilename() {
-        return spriteFilename;
+    public String getSpriteRegionName() {
+        return spriteRegionName;
     }
 }
@@ -1,6 +1,5 @@
 package faust.lhipgame.game.gameentities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import faust.lhipgame.game.gameentities.enums.Direction;
@@ -15,8 +14,8 @@ public abstract class AnimatedEntity extends GameEntity {
     //Animations given Behavior and Direction
     protected Map<GameBehavior, Map<Direction, Animation>> animations = new HashMap<>();
 
-    public AnimatedEntity(Texture texture) {
-        super(texture);
+    public AnimatedEntity(TextureRegion textureRegion) {
+        super(textureRegion);
 
         this.initAnimations();
     }
@@ -1,6 +1,7 @@
 package faust.lhipgame.game.gameentities;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 import java.util.Objects;
@@ -14,24 +15,41 @@ public abstract class GameEntity {
 
     public static final float FRAME_DURATION = 0.1f;
 
-    protected Texture texture;
+    // Packed by the core:packTextures gradle task
+    public static final String ATLAS_FILE = "atlas/lhip.atlas";
 
-    public GameEntity(Texture texture) {
-        Objects.requireNonNull(texture);
-        this.texture = texture;
+    protected TextureRegion textureRegion;
+
+    public GameEntity(TextureRegion textureRegion) {
+        Objects.requireNonNull(textureRegion);
+        this.textureRegion = textureRegion;
+    }
+
+    public TextureRegion getTextureRegion() {
+        return textureRegion;
     }
 
-    public Texture getTexture() {
-        return texture;
+    /**
+     * @param assetManager
+     * @param regionName   name of the packed image, without extension
+     * @return the region of the game atlas with the given name
+     */
+    public static TextureRegion getAtlasRegion(AssetManager assetManager, String regionName) {
+        Objects.requireNonNull(assetManager);
+
+        TextureRegion region = assetManager.get(ATLAS_FILE, TextureAtlas.class).findRegion(regionName);
+        Objects.requireNonNull(region, "Missing atlas region " + regionName);
+        return region;
     }
 
     protected TextureRegion[] getFramesFromTexture() {
         // Use the split utility method to create a 2D array of TextureRegions.
         // The sprite sheet MUST contain frames of equal size and they MUST be
-        // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(this.texture,
-                this.texture.getWidth() / getTextureColumns(),
-                this.texture.getHeight() / getTextureRows());
+        // all aligned. Regions are packed without rotation or whitespace stripping,
+        // so splitting the atlas region gives the same frames of the original sheet.
+        TextureRegion[][] tmp = this.textureRegion.split(
+                this.textureRegion.getRegionWidth() / getTextureColumns(),
+                this.textureRegion.getRegionHeight() / getTextureRows());
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
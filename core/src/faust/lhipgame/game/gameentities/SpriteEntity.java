@@ -1,6 +1,5 @@
 package faust.lhipgame.game.gameentities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
@@ -17,14 +16,14 @@ public abstract class SpriteEntity extends GameEntity {
 
     protected Animation animation;
 
-    public SpriteEntity(Texture texture) {
-        super(texture);
+    public SpriteEntity(TextureRegion textureRegion) {
+        super(textureRegion);
 
         this.initAnimation(0);
     }
 
-    public SpriteEntity(Texture texture, int rowNumber) {
-        super(texture);
+    public SpriteEntity(TextureRegion textureRegion, int rowNumber) {
+        super(textureRegion);
 
         this.initAnimation(rowNumber);
     }
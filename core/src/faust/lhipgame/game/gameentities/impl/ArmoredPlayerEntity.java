@@ -1,7 +1,6 @@
 package faust.lhipgame.game.gameentities.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
@@ -17,11 +16,11 @@ import java.util.Arrays;
  */
 public class ArmoredPlayerEntity extends AnimatedEntity {
 
-    private final Texture shadow;
+    private final TextureRegion shadow;
 
     public ArmoredPlayerEntity(AssetManager assetManager) {
-        super(assetManager.get("sprites/walfrit_armored_sheet.png"));
-        shadow = assetManager.get("sprites/shadow.png");
+        super(getAtlasRegion(assetManager, "walfrit_armored_sheet"));
+        shadow = getAtlasRegion(assetManager, "shadow");
     }
 
     @Override
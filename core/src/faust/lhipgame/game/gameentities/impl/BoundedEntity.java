@@ -2,7 +2,6 @@ package faust.lhipgame.game.gameentities.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
@@ -21,11 +20,11 @@ public class BoundedEntity extends AnimatedEntity {
     private final Sound hurtCry;
     private final Sound deathCry;
     private final Sound evadeSwift;
-    private final Texture shadow;
+    private final TextureRegion shadow;
 
     public BoundedEntity(AssetManager assetManager) {
-        super(assetManager.get("sprites/bounded_sheet.png"));
-        shadow = assetManager.get("sprites/shadow.png");
+        super(getAtlasRegion(assetManager, "bounded_sheet"));
+        shadow = getAtlasRegion(assetManager, "shadow");
         hurtCry = assetManager.get("sounds/SFX_shot4.ogg");
         deathCry = assetManager.get("sounds/SFX_creatureDie4.ogg");
         evadeSwift = assetManager.get("sounds/evade.ogg");
@@ -93,7 +92,7 @@ public class BoundedEntity extends AnimatedEntity {
     @Override
     protected int getTextureRows() { return 13; }
 
-    public Texture getShadowTexture() {
+    public TextureRegion getShadowTexture() {
         return shadow;
     }
 
@@ -14,7 +14,7 @@ public class DecorationEntity extends SpriteEntity {
     private final Sound grassMove;
 
     public DecorationEntity(DecorationsEnum decorationType, AssetManager assetManager) {
-        super(assetManager.get("sprites/decorations_sheet.png"), decorationType.ordinal());
+        super(getAtlasRegion(assetManager, "decorations_sheet"), decorationType.ordinal());
 
         this.type = decorationType;
         this.grassMove = assetManager.get("sounds/SFX_shot5.ogg");
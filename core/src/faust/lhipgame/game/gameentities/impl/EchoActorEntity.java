@@ -31,7 +31,7 @@ public class EchoActorEntity extends AnimatedEntity {
     protected Map<GameBehavior, GameBehavior> gotoToStepFromStep = new HashMap<>();
 
     public EchoActorEntity(EchoesActorType echoesActorType, AssetManager assetManager) {
-        super(assetManager.get(echoesActorType.getSpriteFilename()));
+        super(getAtlasRegion(assetManager, echoesActorType.getSpriteRegionName()));
         this.echoesActorType = echoesActorType;
         //TODO improve
         this.startingSound = assetManager.get("sounds/horror_scream.ogg");
@@ -21,7 +21,7 @@ public class HiveEntity extends AnimatedEntity {
     private final Sound deathCry;
 
     public HiveEntity(AssetManager assetManager) {
-        super(assetManager.get("sprites/hive_sheet.png"));
+        super(getAtlasRegion(assetManager, "hive_sheet"));
         hurtCry = assetManager.get("sounds/SFX_hit&damage2.ogg");
         deathCry = assetManager.get("sounds/SFX_creatureDie4.ogg");
     }
@@ -21,7 +21,7 @@ public class POIEntity extends SpriteEntity {
     private final POIEnum type;
 
     public POIEntity(POIEnum type, AssetManager assetManager) {
-        super(assetManager.get("sprites/poi_sheet.png"), type.ordinal());
+        super(getAtlasRegion(assetManager, "poi_sheet"), type.ordinal());
         this.messageKey = type.getTextKey();
         this.itemGiven = type.getItemGiven();
         this.splashKey = type.getSplashKey();
@@ -2,7 +2,6 @@ package faust.lhipgame.game.gameentities.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
@@ -20,20 +19,24 @@ import java.util.Arrays;
 public class PlayerEntity extends AnimatedEntity {
 
     private final ShaderWrapper playerShader;
-    private final Texture shadow;
+    private final int hasArmorUniform;
+    private final int hasHolyLanceUniform;
+    private final TextureRegion shadow;
     private final Sound bonus;
     private final Sound hurtCry;
     private final Sound lanceSwing;
     private final Sound waterSplash;
 
     public PlayerEntity(AssetManager assetManager) {
-        super(assetManager.get("sprites/walfrit_sheet.png"));
-        shadow = assetManager.get("sprites/shadow.png");
+        super(getAtlasRegion(assetManager, "walfrit_sheet"));
+        shadow = getAtlasRegion(assetManager, "shadow");
         bonus = assetManager.get("sounds/SFX_collect&bonus13.ogg");
         hurtCry = assetManager.get("sounds/SFX_hit&damage13.ogg");
         lanceSwing = assetManager.get("sounds/SFX_swordSwing.ogg");
         waterSplash = assetManager.get("sounds/SFX_waterSplash.ogg");
         playerShader = new ShaderWrapper("shaders/player_vertex.glsl","shaders/player_fragment.glsl");
+        hasArmorUniform = playerShader.declareIntUniform("hasArmor");
+        hasHolyLanceUniform = playerShader.declareIntUniform("hasHolyLance");
    }
 
     @Override
@@ -95,7 +98,7 @@ public class PlayerEntity extends AnimatedEntity {
         return 13;
     }
 
-    public Texture getShadowTexture() {
+    public TextureRegion getShadowTexture() {
         return shadow;
     }
 
@@ -118,4 +121,15 @@ public class PlayerEntity extends AnimatedEntity {
     public ShaderWrapper getPlayerShader() {
         return playerShader;
     }
+
+    /**
+     * Updates player shader flags. Values are pushed to the shader only if changed
+     *
+     * @param hasArmor
+     * @param hasHolyLance
+     */
+    public void setPlayerShaderFlags(boolean hasArmor, boolean hasHolyLance) {
+        playerShader.setUniform(hasArmorUniform, hasArmor);
+        playerShader.setUniform(hasHolyLanceUniform, hasHolyLance);
+    }
 }
@@ -21,7 +21,7 @@ public class SpitterEntity extends AnimatedEntity {
     private final Sound deathCry;
 
     public SpitterEntity(AssetManager assetManager) {
-        super(assetManager.get("sprites/spitter_sheet.png"));
+        super(getAtlasRegion(assetManager, "spitter_sheet"));
         hurtCry = assetManager.get("sounds/SFX_hit&damage2.ogg");
         deathCry = assetManager.get("sounds/SFX_creatureDie4.ogg");
     }
@@ -2,7 +2,6 @@ package faust.lhipgame.game.gameentities.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
@@ -22,11 +21,11 @@ public class StrixEntity extends AnimatedEntity {
     private final Sound hurtCry;
     private final Sound deathCry;
     private final Sound leechSound;
-    private final Texture shadow;
+    private final TextureRegion shadow;
 
     public StrixEntity(AssetManager assetManager) {
-        super(assetManager.get("sprites/strix_sheet.png"));
-        shadow = assetManager.get("sprites/shadow.png");
+        super(getAtlasRegion(assetManager, "strix_sheet"));
+        shadow = getAtlasRegion(assetManager, "shadow");
         hurtCry = assetManager.get("sounds/SFX_hit&damage2.ogg");
         deathCry = assetManager.get("sounds/SFX_creatureDie4.ogg");
         leechSound = assetManager.get("sounds/SFX_hit&damage6.ogg");
@@ -83,7 +82,7 @@ public class StrixEntity extends AnimatedEntity {
         return 10;
     }
 
-    public Texture getShadowTexture() {
+    public TextureRegion getShadowTexture() {
         return shadow;
     }
 
@@ -2,12 +2,7 @@ package faust.lhipgame.game.hud;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.TimeUtils;
 import faust.lhipgame.LHIPGame;
 import faust.lhipgame.game.gameentities.GameEntity;
@@ -15,6 +10,7 @@ import faust.lhipgame.game.gameentities.SpriteEntity;
 import faust.lhipgame.game.gameentities.enums.GameBehavior;
 import faust.lhipgame.game.hud.enums.HudIconsEnum;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
+import faust.lhipgame.game.render.RenderQueue;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.screens.GameScreen;
 
@@ -27,46 +23,36 @@ import java.util.Objects;
  */
 public class DarknessRenderer {
 
-    private final Texture darknessOverlay;
+    private final TextureRegion darknessOverlay;
 
-    private final ShapeRenderer backgroundBox = new ShapeRenderer();
     private static final Color darkness = new Color(0x000000ff);
 
     public DarknessRenderer(AssetManager assetManager) {
         Objects.requireNonNull(assetManager);
 
-        darknessOverlay = assetManager.get("sprites/darkness_overlay.png");
+        darknessOverlay = GameEntity.getAtlasRegion(assetManager, "darkness_overlay");
 
     }
 
-    public void drawDarkness(SpriteBatch batch, PlayerInstance player, OrthographicCamera camera)  {
-        Objects.requireNonNull(batch);
+    /**
+     * Submits darkness on the current layer of the queue
+     *
+     * @param queue
+     * @param player
+     */
+    public void drawDarkness(RenderQueue queue, PlayerInstance player)  {
+        Objects.requireNonNull(queue);
         Objects.requireNonNull(player);
-        Objects.requireNonNull(camera);
 
-        final float xOffset = Math.max(0, player.getBody().getPosition().x - LHIPGame.GAME_WIDTH/2);
+        final float xOffset = Math.max(0, player.getX() - LHIPGame.GAME_WIDTH/2);
 
         //Left overflow
-        batch.begin();
-        backgroundBox.setColor(darkness);
-        backgroundBox.setProjectionMatrix(camera.combined);
-        backgroundBox.begin(ShapeRenderer.ShapeType.Filled);
-        backgroundBox.rect(0, 0, Math.max(0,Math.min(16,0 + xOffset)),  LHIPGame.GAME_HEIGHT-12);
-        backgroundBox.end();
-        batch.end();
+        queue.submitRect(0, 0, Math.max(0,Math.min(16,0 + xOffset)),  LHIPGame.GAME_HEIGHT-12, darkness);
 
         //Right overflow
-        batch.begin();
-        backgroundBox.setColor(darkness);
-        backgroundBox.setProjectionMatrix(camera.combined);
-        backgroundBox.begin(ShapeRenderer.ShapeType.Filled);
-        backgroundBox.rect(xOffset+144, 0, 16-xOffset,  LHIPGame.GAME_HEIGHT-12);
-        backgroundBox.end();
-        batch.end();
+        queue.submitRect(xOffset+144, 0, 16-xOffset,  LHIPGame.GAME_HEIGHT-12, darkness);
 
         //Darkness
-        batch.begin();
-        batch.draw(darknessOverlay,Math.min(16,0 + xOffset),0);
-        batch.end();
+        queue.submit(darknessOverlay,Math.min(16,0 + xOffset),0);
     }
 }
@@ -2,11 +2,8 @@ package faust.lhipgame.game.hud;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.TimeUtils;
@@ -16,6 +13,7 @@ import faust.lhipgame.game.gameentities.SpriteEntity;
 import faust.lhipgame.game.gameentities.enums.GameBehavior;
 import faust.lhipgame.game.hud.enums.HudIconsEnum;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
+import faust.lhipgame.game.render.RenderQueue;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.screens.GameScreen;
 
@@ -37,11 +35,9 @@ public class Hud {
     private final Vector2 holyLancePiecesPosition = new Vector2(LHIPGame.GAME_WIDTH - 30, LHIPGame.GAME_HEIGHT - 4);
     private final Vector2 morgengabeCountPosition = new Vector2(LHIPGame.GAME_WIDTH - 50, LHIPGame.GAME_HEIGHT - 4);
 
-    private final ShapeRenderer backgroundBox = new ShapeRenderer();
     private static final Color back = new Color(0x222222ff);
 
     //Healing timer bar
-    private final ShapeRenderer cornerBox = new ShapeRenderer();
     private static final Color corner = new Color(0xffffffff);
     private boolean mustFlicker = false;
     private long startTime = 0;
@@ -51,7 +47,7 @@ public class Hud {
         Objects.requireNonNull(assetManager);
 
         this.textManager = textManager;
-        this.hudTexture = new SpriteEntity(assetManager.get("sprites/hud.png")) {
+        this.hudTexture = new SpriteEntity(GameEntity.getAtlasRegion(assetManager, "hud")) {
             @Override
             protected int getTextureColumns() {
                 return HudIconsEnum.values().length;
@@ -65,24 +61,23 @@ public class Hud {
 
     }
 
-    public void drawHud(SpriteBatch batch, PlayerInstance player, OrthographicCamera camera) {
-        Objects.requireNonNull(batch);
+    /**
+     * Submits the hud on the current layer of the queue
+     *
+     * @param queue
+     * @param player
+     */
+    public void drawHud(RenderQueue queue, PlayerInstance player) {
+        Objects.requireNonNull(queue);
         Objects.requireNonNull(player);
-        Objects.requireNonNull(camera);
 
 
-        Vector2 playerPosition = player.getBody().getPosition();
+        final float playerX = player.getX();
+        final float playerY = player.getY();
 
         //Black Background
-        batch.begin();
-        backgroundBox.setColor(back);
-        backgroundBox.setProjectionMatrix(camera.combined);
-        backgroundBox.begin(ShapeRenderer.ShapeType.Filled);
-        backgroundBox.rect(0, LHIPGame.GAME_HEIGHT, LHIPGame.GAME_WIDTH, -12);
-        backgroundBox.end();
-        batch.end();
-
-        batch.begin();
+        queue.submitRect(0, LHIPGame.GAME_HEIGHT - 12, LHIPGame.GAME_WIDTH, 12, back);
+
         // If not hurt or the flickering POI must be shown, draw the texture
         if (!mustFlicker) {
             // Draw Health meter (red crosses for each hitponit remaining, hollow ones for each damage point)
@@ -91,7 +86,7 @@ public class Hud {
                 frame = hudTexture.getFrame(r < player.getDamageDelta() ?
                         HudIconsEnum.LIFE_METER_FULL.ordinal() :
                         HudIconsEnum.LIFE_METER_EMPTY.ordinal() * GameEntity.FRAME_DURATION);
-                batch.draw(frame, meterPosition.x + (r * frame.getRegionWidth()), meterPosition.y);
+                queue.submit(frame, meterPosition.x + (r * frame.getRegionWidth()), meterPosition.y);
             }
         }
 
@@ -105,57 +100,45 @@ public class Hud {
 
 
         //Morgengabes found count
-        batch.draw(hudTexture.getFrame(HudIconsEnum.MORGENGABE.ordinal() * GameEntity.FRAME_DURATION),
+        queue.submit(hudTexture.getFrame(HudIconsEnum.MORGENGABE.ordinal() * GameEntity.FRAME_DURATION),
                 morgengabeCountPosition.x - 10,
                 morgengabeCountPosition.y - 6);
 
-        textManager.getMainFont().draw(batch,
+        queue.submitText(textManager.getMainFont(),
                 String.valueOf(player.getFoundMorgengabes()),
                 morgengabeCountPosition.x,
                 morgengabeCountPosition.y);
 
         //Holy lance pieces found count
-        batch.draw(hudTexture.getFrame(HudIconsEnum.LANCE.ordinal() * GameEntity.FRAME_DURATION),
+        queue.submit(hudTexture.getFrame(HudIconsEnum.LANCE.ordinal() * GameEntity.FRAME_DURATION),
                 holyLancePiecesPosition.x - 10,
                 holyLancePiecesPosition.y - 6);
 
-        textManager.getMainFont().draw(batch,
+        queue.submitText(textManager.getMainFont(),
                 String.valueOf(player.getHolyLancePieces()),
                 holyLancePiecesPosition.x,
                 holyLancePiecesPosition.y);
 
 
         //Healthkits found count
-        batch.draw(hudTexture.getFrame(HudIconsEnum.HEALTH_KIT.ordinal() * GameEntity.FRAME_DURATION),
+        queue.submit(hudTexture.getFrame(HudIconsEnum.HEALTH_KIT.ordinal() * GameEntity.FRAME_DURATION),
                 healthKitCountPosition.x - 10,
                 healthKitCountPosition.y - 6);
 
-        textManager.getMainFont().draw(batch,
+        queue.submitText(textManager.getMainFont(),
                 String.valueOf(player.getAvailableHealthKits()),
                 healthKitCountPosition.x,
                 healthKitCountPosition.y);
 
-        batch.end();
-
         //Draw Healing timer bar if player is curing himself
-        if (GameBehavior.KNEE.equals(player.getCurrentBehavior()) && Objects.nonNull(player.getIsHealingTimer())) {
+        if (GameBehavior.KNEE.equals(player.getCurrentBehavior()) && player.isHealing()) {
             //Black Corner
-            batch.begin();
-            backgroundBox.setColor(back);
-            backgroundBox.setProjectionMatrix(camera.combined);
-            backgroundBox.begin(ShapeRenderer.ShapeType.Filled);
-            backgroundBox.rect(playerPosition.x, playerPosition.y+17, 10,  5);
-            backgroundBox.end();
+            queue.submitRect(playerX, playerY+17, 10,  5, back);
 
             //White bar
-            long deltaTimer = (player.getIsHealingTimer().getExecuteTimeMillis() - ( TimeUtils.nanoTime() / 1000000) )/1000;
-
-            cornerBox.setColor(corner);
-            cornerBox.setProjectionMatrix(camera.combined);
-            cornerBox.begin(ShapeRenderer.ShapeType.Filled);
-            cornerBox.rect(playerPosition.x + 1, playerPosition.y + 18,2 + (deltaTimer * 2), 3);
-            cornerBox.end();
-            batch.end();
+            long deltaTimer = (long) player.getHealingRemainingTime();
+
+            queue.submitRect(playerX + 1, playerY + 18,2 + (deltaTimer * 2), 3, corner);
         }
     }
 }
@@ -1,22 +1,44 @@
 package faust.lhipgame.game.instances;
 
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.utils.Array;
+import faust.lhipgame.game.ai.FlowField;
 import faust.lhipgame.game.gameentities.GameEntity;
 import faust.lhipgame.game.gameentities.enums.Direction;
 import faust.lhipgame.game.gameentities.enums.GameBehavior;
+import faust.lhipgame.game.gameentities.interfaces.Hurtable;
+import faust.lhipgame.game.scheduler.ScheduledTask;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
+import faust.lhipgame.game.world.manager.HitQuery;
+import faust.lhipgame.game.world.manager.ShapePrototypes;
 
 import java.util.Objects;
 
 public abstract class AnimatedInstance extends GameInstance {
 
     protected static final int LINE_OF_SIGHT = 60;
+    // Dormancy radii: wakes up just before the target is in sight, sleeps only when well beyond
+    private static final float WAKE_MARGIN = 8;
+    private static final float SLEEP_HYSTERESIS = 16;
     protected int damage = 0;
 
     protected GameBehavior currentBehavior = GameBehavior.IDLE;
     protected Direction currentDirection = Direction.UNUSED;
 
-    protected Body hitBox;
+    // Attacks are resolved on demand, one instance at a time
+    private static final HitQuery hitQuery = new HitQuery();
+    private static final Rectangle hitArea = new Rectangle();
+    // Instances already hit by the current attack
+    private final Array<GameInstance> hitByCurrentAttack = new Array<>();
+
+    private final ScheduledTask hurtRecoveryTask = new ScheduledTask(this::endHurt);
+    private boolean dormant = false;
+
+    // Flow field towards the player in the current room, if chasing it
+    protected FlowField flowField;
 
     public AnimatedInstance(final GameEntity entity) {
         super(entity);
@@ -29,30 +51,126 @@ public abstract class AnimatedInstance extends GameInstance {
     public abstract void doLogic(float stateTime);
 
     /**
-     * Utility for extracting Direction from a directionNormal normal
+     * Puts the instance to sleep when far from the target, and wakes it up when near again.
+     * A dormant instance has all its bodies deactivated and must not do its logic
+     *
+     * @param target
+     * @return true if the instance is dormant
+     */
+    public boolean updateDormancy(final GameInstance target) {
+        Objects.requireNonNull(target);
+
+        final float wakeRadius = getLineOfSight() + WAKE_MARGIN;
+        if (dormant && isWithinDistance(target, wakeRadius)) {
+            dormant = false;
+            setBodiesActive(true);
+        } else if (!dormant && !isWithinDistance(target, wakeRadius + SLEEP_HYSTERESIS)) {
+            dormant = true;
+            setLinearVelocity(0, 0);
+            setBodiesActive(false);
+        }
+        return dormant;
+    }
+
+    /**
+     * Activates or deactivates all the Box2D bodies of this instance
+     *
+     * @param active
+     */
+    protected void setBodiesActive(boolean active) {
+        body.setActive(active);
+    }
+
+    /**
+     * Adds the hit box sensor fixture to the body. It collides with nothing, and is found only by attack queries
+     *
+     * @param halfWidth
+     * @param halfHeight
+     * @param offsetY    vertical offset from the body origin
+     * @param category   PLAYER_HIT_BOX or ENEMY_HIT_BOX
      */
-    protected Direction extractDirectionFromNormal(Vector2 directionNormal) {
+    protected void createHitBox(float halfWidth, float halfHeight, float offsetY, CollisionCategoryEnum category) {
+        FixtureDef hitBoxFixtureDef = new FixtureDef();
+        hitBoxFixtureDef.shape = ShapePrototypes.box(halfWidth, halfHeight, 0, offsetY);
+        hitBoxFixtureDef.density = 0;
+        hitBoxFixtureDef.friction = 0;
+        hitBoxFixtureDef.isSensor = true;
+        CollisionMatrix.apply(hitBoxFixtureDef.filter, category);
+
+        body.createFixture(hitBoxFixtureDef).setUserData(CollisionTagEnum.HIT_BOX);
+    }
 
-        if (directionNormal.x <= -0.5) {
-            return Direction.LEFT;
-        } else if (directionNormal.x > 0.5) {
-            return Direction.RIGHT;
+    /**
+     * Hurts the instances whose hit box is in the area hit by the current attack frame.
+     * Each instance is hurt only once per attack
+     *
+     * @param hitData     attack hit frames and areas
+     * @param frame       current attack animation frame
+     * @param target      category of the hit boxes that can be hit
+     */
+    protected void resolveAttackHits(final AttackHitData hitData, int frame, CollisionCategoryEnum target) {
+        Objects.requireNonNull(hitData);
+
+        if (!hitData.isHitFrame(frame)) {
+            // Attack not yet started or already ended
+            hitByCurrentAttack.clear();
+            return;
         }
 
-        if (directionNormal.y < 0) {
-            return Direction.DOWN;
-        } else {
-            return Direction.UP;
+        hitData.getHitArea(currentDirection, getX(), getY(), hitArea);
+        final Array<GameInstance> hits = hitQuery.query(body.getWorld(), this, hitArea, target);
+
+        for (GameInstance hit : hits) {
+            if (!hitByCurrentAttack.contains(hit, true) && canBeHit(hit)) {
+                hitByCurrentAttack.add(hit);
+                ((Hurtable) hit).hurt(this);
+            }
         }
     }
 
-    @Override
-    public void dispose() {
-        if(!Objects.isNull(hitBox)){
-            this.hitBox.getFixtureList().forEach(f ->
-                    hitBox.destroyFixture(f));
-        }
-        super.dispose();
+    /**
+     * @return true if the target can be hit now
+     */
+    private static boolean canBeHit(final GameInstance target) {
+        return !(target instanceof AnimatedInstance) || ((AnimatedInstance) target).isHittable();
+    }
+
+    /**
+     * @return true if the instance can be hit by attacks
+     */
+    public boolean isHittable() {
+        return true;
+    }
+
+    /**
+     * @return the distance within which the instance notices its target
+     */
+    protected float getLineOfSight() {
+        return LINE_OF_SIGHT;
+    }
+
+    public void setFlowField(FlowField flowField) {
+        this.flowField = flowField;
+    }
+
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Schedules the end of the hurt behaviour on the game clock
+     *
+     * @param delay in seconds
+     */
+    protected void scheduleHurtRecovery(float delay) {
+        scheduler.schedule(hurtRecoveryTask, delay);
+    }
+
+    /**
+     * Ends the hurt behaviour
+     */
+    protected void endHurt() {
+        currentBehavior = GameBehavior.IDLE;
     }
 
     public GameBehavior getCurrentBehavior() {
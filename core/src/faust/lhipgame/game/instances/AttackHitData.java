@@ -0,0 +1,69 @@
+package faust.lhipgame.game.instances;
+
+import com.badlogic.gdx.math.Rectangle;
+import faust.lhipgame.game.gameentities.enums.Direction;
+
+import java.util.Objects;
+
+/**
+ * Hit frames of an attack animation and the area hit in each direction,
+ * relative to the attacker body position
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class AttackHitData {
+
+    private final int firstHitFrame;
+    private final int lastHitFrame;
+    // center x, center y, half width, half height for each direction
+    private final float[] areas = new float[Direction.values().length * 4];
+
+    /**
+     * @param firstHitFrame first animation frame that can hit
+     * @param lastHitFrame  last animation frame that can hit
+     */
+    public AttackHitData(int firstHitFrame, int lastHitFrame) {
+        if (firstHitFrame > lastHitFrame) {
+            throw new IllegalArgumentException("First hit frame " + firstHitFrame + " is after last one " + lastHitFrame);
+        }
+        this.firstHitFrame = firstHitFrame;
+        this.lastHitFrame = lastHitFrame;
+    }
+
+    /**
+     * Sets the area hit when attacking in a direction
+     *
+     * @return this, for chaining
+     */
+    public AttackHitData setHitArea(Direction direction, float centerX, float centerY, float halfWidth, float halfHeight) {
+        Objects.requireNonNull(direction);
+
+        final int i = direction.ordinal() * 4;
+        areas[i] = centerX;
+        areas[i + 1] = centerY;
+        areas[i + 2] = halfWidth;
+        areas[i + 3] = halfHeight;
+        return this;
+    }
+
+    /**
+     * @return true if the animation frame can hit
+     */
+    public boolean isHitFrame(int frame) {
+        return frame >= firstHitFrame && frame <= lastHitFrame;
+    }
+
+    /**
+     * Puts in out the area hit in a direction by an attacker in (x, y)
+     *
+     * @return out, empty if the direction has no hit area
+     */
+    public Rectangle getHitArea(Direction direction, float x, float y, Rectangle out) {
+        Objects.requireNonNull(direction);
+
+        final int i = direction.ordinal() * 4;
+        final float halfWidth = areas[i + 2];
+        final float halfHeight = areas[i + 3];
+        return out.set(x + areas[i] - halfWidth, y + areas[i + 1] - halfHeight, 2 * halfWidth, 2 * halfHeight);
+    }
+}
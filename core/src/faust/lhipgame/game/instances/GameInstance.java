@@ -1,13 +1,16 @@
 package faust.lhipgame.game.instances;
 
 import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
 import faust.lhipgame.LHIPGame;
 import faust.lhipgame.game.gameentities.GameEntity;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.rooms.SpatialGrid;
+import faust.lhipgame.game.scheduler.GameScheduler;
+import faust.lhipgame.game.world.manager.TransformSnapshot;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -31,6 +34,20 @@ public abstract class GameInstance {
 
     protected ParticleEmitter particleEmitter;
 
+    // Body position interpolated for drawing
+    protected final Vector2 drawPosition = new Vector2();
+
+    // Slot in the transform snapshot of the world the instance is in
+    private TransformSnapshot snapshot;
+    private int snapshotSlot;
+
+    // Game clock scheduler of the world the instance is in
+    protected GameScheduler scheduler;
+
+    // Entry in the spatial index of the current room, if any
+    private SpatialGrid spatialGrid;
+    private int spatialIndex;
+
     public GameInstance(GameEntity entity) {
         Objects.requireNonNull(entity);
 
@@ -43,12 +60,95 @@ public abstract class GameInstance {
      */
     public abstract void createBody(final World world, float x, float y);
 
-    public abstract void draw(final SpriteBatch batch, float stateTime);
+    public abstract void draw(final RenderQueue queue, float stateTime);
 
     public Body getBody() {
         return body;
     }
 
+    /**
+     * @return x of the body at the end of the last step
+     */
+    public float getX() {
+        return Objects.nonNull(snapshot) ? snapshot.getX(snapshotSlot) : body.getPosition().x;
+    }
+
+    /**
+     * @return y of the body at the end of the last step
+     */
+    public float getY() {
+        return Objects.nonNull(snapshot) ? snapshot.getY(snapshotSlot) : body.getPosition().y;
+    }
+
+    /**
+     * @return horizontal velocity of the body, as left by the last step or set since
+     */
+    public float getVelocityX() {
+        return Objects.nonNull(snapshot) ? snapshot.getVelocityX(snapshotSlot) : body.getLinearVelocity().x;
+    }
+
+    /**
+     * @return vertical velocity of the body, as left by the last step or set since
+     */
+    public float getVelocityY() {
+        return Objects.nonNull(snapshot) ? snapshot.getVelocityY(snapshotSlot) : body.getLinearVelocity().y;
+    }
+
+    /**
+     * Sets the body velocity, keeping the snapshot in sync
+     *
+     * @param velocityX
+     * @param velocityY
+     */
+    public void setLinearVelocity(float velocityX, float velocityY) {
+        body.setLinearVelocity(velocityX, velocityY);
+        if (Objects.nonNull(snapshot)) {
+            snapshot.setVelocity(snapshotSlot, velocityX, velocityY);
+        }
+    }
+
+    /**
+     * @param velocity
+     * @see #setLinearVelocity(float, float)
+     */
+    public void setLinearVelocity(Vector2 velocity) {
+        setLinearVelocity(velocity.x, velocity.y);
+    }
+
+    /**
+     * Interpolates the draw position between the last two steps
+     *
+     * @param alpha fraction of tick elapsed since the last one, from 0 to 1
+     */
+    public void interpolatePosition(float alpha) {
+        if (Objects.nonNull(snapshot)) {
+            final float previousX = snapshot.getPreviousX(snapshotSlot);
+            final float previousY = snapshot.getPreviousY(snapshotSlot);
+            drawPosition.set(previousX + (getX() - previousX) * alpha, previousY + (getY() - previousY) * alpha);
+        }
+    }
+
+    /**
+     * Snaps the draw position to the current body position, avoiding
+     * interpolation from old positions after being inserted in a world
+     */
+    public void resetInterpolation() {
+        if (Objects.nonNull(body)) {
+            drawPosition.set(getX(), getY());
+        }
+    }
+
+    /**
+     * Sets the slot of this instance in a transform snapshot. To be called only by the TransformSnapshot
+     *
+     * @param snapshot
+     * @param snapshotSlot
+     */
+    public void setSnapshotSlot(TransformSnapshot snapshot, int snapshotSlot) {
+        this.snapshot = snapshot;
+        this.snapshotSlot = snapshotSlot;
+    }
+
     /**
      * Disposing internal resources
      */
@@ -58,24 +158,49 @@ public abstract class GameInstance {
     }
 
     /**
-     * Returs the nearest Instance from this in the room. USE ONLY AFTER INSERTING THE POI IN THE WORLD
+     * Sets the game clock scheduler used for timed behaviours. To be called on world insertion
      *
-     * @return the nearest Instance from this in the room
+     * @param scheduler
      */
-    protected GameInstance getNearestInstance(List<GameInstance> instanceList) {
+    public void setScheduler(GameScheduler scheduler) {
+        Objects.requireNonNull(scheduler);
+        this.scheduler = scheduler;
+    }
 
-        GameInstance nearest = null;
+    /**
+     * Sets the entry of this instance in a spatial index. To be called only by the SpatialGrid
+     *
+     * @param spatialGrid
+     * @param spatialIndex
+     */
+    public void setSpatialEntry(SpatialGrid spatialGrid, int spatialIndex) {
+        this.spatialGrid = spatialGrid;
+        this.spatialIndex = spatialIndex;
+    }
 
-        for (GameInstance poi : instanceList) {
-            // In no nearest, just return the first one
-            if (Objects.isNull(nearest)) {
-                nearest = poi;
-            } else if (nearest.getBody().getPosition().dst(getBody().getPosition()) > poi.getBody().getPosition().dst(getBody().getPosition())) {
-                nearest = poi;
-            }
-        }
-        return nearest;
+    public SpatialGrid getSpatialGrid() {
+        return spatialGrid;
+    }
+
+    public int getSpatialIndex() {
+        return spatialIndex;
+    }
 
+    /**
+     * Checks the distance from another instance, using the spatial index of the room
+     * if both are in it. USE ONLY AFTER INSERTING BOTH INSTANCES IN THE WORLD
+     *
+     * @param other
+     * @param distance
+     * @return true if the other instance is not farther than distance
+     */
+    protected boolean isWithinDistance(GameInstance other, float distance) {
+        if (Objects.nonNull(spatialGrid) && spatialGrid.contains(other)) {
+            return spatialGrid.isWithinDistance(this, other, distance);
+        }
+        final float deltaX = other.getX() - getX();
+        final float deltaY = other.getY() - getY();
+        return deltaX * deltaX + deltaY * deltaY <= distance * distance;
     }
 
     public float getStartX() {
@@ -1,7 +1,6 @@
 package faust.lhipgame.game.instances.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -13,7 +12,10 @@ import faust.lhipgame.game.gameentities.enums.DecorationsEnum;
 import faust.lhipgame.game.gameentities.impl.DecorationEntity;
 import faust.lhipgame.game.instances.GameInstance;
 import faust.lhipgame.game.instances.interfaces.Interactable;
-import faust.lhipgame.game.world.manager.CollisionManager;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
 
 import java.util.Objects;
 
@@ -34,9 +36,8 @@ public class DecorationInstance extends GameInstance implements Interactable {
     }
 
     @Override
-    public void draw(SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
-        batch.begin();
+    public void draw(RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
         TextureRegion frame;
 
         if (interacted) {
@@ -46,9 +47,8 @@ public class DecorationInstance extends GameInstance implements Interactable {
         }
 
         //Rivedere
-        batch.draw(frame, body.getPosition().x + calculateAdditionalXOffset() - POSITION_OFFSET,
-                body.getPosition().y + +calculateAdditionalYOffset() - POSITION_Y_OFFSET);
-        batch.end();
+        queue.submit(frame, drawPosition.x + calculateAdditionalXOffset() - POSITION_OFFSET,
+                drawPosition.y + +calculateAdditionalYOffset() - POSITION_Y_OFFSET);
     }
 
     /**
@@ -119,12 +119,12 @@ public class DecorationInstance extends GameInstance implements Interactable {
         fixtureDef.density = isPassable() ? 0 : 1;
         fixtureDef.friction = isPassable() ? 0 : 1;
         fixtureDef.isSensor = isPassable();
-        fixtureDef.filter.categoryBits = CollisionManager.SOLID_GROUP;
+        CollisionMatrix.apply(fixtureDef.filter, isPassable() ? CollisionCategoryEnum.PASSABLE_DECORATION : CollisionCategoryEnum.DECORATION);
 
         // Associate body to world
         body = world.createBody(bodyDef);
         body.setUserData(this);
-        body.createFixture(fixtureDef);
+        body.createFixture(fixtureDef).setUserData(CollisionTagEnum.DECORATION);
 
         shape.dispose();
     }
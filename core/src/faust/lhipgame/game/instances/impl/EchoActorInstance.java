@@ -2,7 +2,6 @@ package faust.lhipgame.game.instances.impl;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -16,7 +15,10 @@ import faust.lhipgame.game.gameentities.enums.GameBehavior;
 import faust.lhipgame.game.gameentities.impl.EchoActorEntity;
 import faust.lhipgame.game.instances.AnimatedInstance;
 import faust.lhipgame.game.instances.interfaces.Interactable;
-import faust.lhipgame.game.world.manager.CollisionManager;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
 
 import java.util.List;
 import java.util.Objects;
@@ -64,9 +66,9 @@ public class EchoActorInstance extends AnimatedInstance implements Interactable,
         //Move if should
         if(((EchoActorEntity)this.entity).mustMoveInStep(currentBehavior)){
             //TODO improve
-            body.setLinearVelocity(60,0);
+            setLinearVelocity(60,0);
         } else {
-            body.setLinearVelocity(0,0);
+            setLinearVelocity(0,0);
         }
 
         //If animation is finished pass to the next step
@@ -124,32 +126,29 @@ public class EchoActorInstance extends AnimatedInstance implements Interactable,
         fixtureDef.density = 1;
         fixtureDef.friction = 1;
         fixtureDef.isSensor = true;
-        fixtureDef.filter.categoryBits = CollisionManager.ENEMY_GROUP;
-        fixtureDef.filter.maskBits = CollisionManager.PLAYER_GROUP;
+        CollisionMatrix.apply(fixtureDef.filter, CollisionCategoryEnum.ECHO_ACTOR);
 
         // Associate body to world
         body = world.createBody(bodyDef);
         body.setUserData(this);
-        body.createFixture(fixtureDef);
+        body.createFixture(fixtureDef).setUserData(CollisionTagEnum.ECHO_ACTOR);
 
         shape.dispose();
     }
 
     @Override
-    public void draw(SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
+    public void draw(RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
 
         //Do not draw if must be removed
         if(removeFromRoom){
             return;
         }
-        batch.begin();
 
         // Should not loop!
         TextureRegion frame = ((AnimatedEntity) entity).getFrame(currentBehavior, mapStateTimeFromBehaviour(stateTime));
 
-        batch.draw(frame, body.getPosition().x - POSITION_OFFSET, body.getPosition().y - POSITION_Y_OFFSET);
-        batch.end();
+        queue.submit(frame, drawPosition.x - POSITION_OFFSET, drawPosition.y - POSITION_Y_OFFSET);
     }
 
     public boolean mustRemoveFromRoom() {
@@ -2,14 +2,11 @@ package faust.lhipgame.game.instances.impl;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.TimeUtils;
-import com.badlogic.gdx.utils.Timer;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
 import faust.lhipgame.game.gameentities.interfaces.Attacker;
 import faust.lhipgame.game.gameentities.interfaces.Hurtable;
@@ -19,8 +16,12 @@ import faust.lhipgame.game.gameentities.impl.HiveEntity;
 import faust.lhipgame.game.instances.AnimatedInstance;
 import faust.lhipgame.game.instances.GameInstance;
 import faust.lhipgame.game.instances.interfaces.Interactable;
+import faust.lhipgame.game.render.RenderQueue;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
-import faust.lhipgame.game.world.manager.CollisionManager;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
+import faust.lhipgame.game.world.manager.ShapePrototypes;
 import faust.lhipgame.screens.GameScreen;
 
 import java.util.Objects;
@@ -54,12 +55,7 @@ public class HiveInstance extends AnimatedInstance implements Interactable, Hurt
 
         currentBehavior = GameBehavior.HURT;
         // Do nothing for half second
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                currentBehavior = GameBehavior.IDLE;
-            }
-        }, 0.25f);
+        scheduleHurtRecovery(0.25f);
     }
 
 
@@ -87,64 +83,35 @@ public class HiveInstance extends AnimatedInstance implements Interactable, Hurt
         bodyDef.fixedRotation = true;
         bodyDef.position.set(x, y);
 
-        // Define shape
-        PolygonShape shape = new PolygonShape();
-        shape.setAsBox(8, 2);
-
         // Define Fixture
         FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = shape;
+        fixtureDef.shape = ShapePrototypes.box(8, 2);
         fixtureDef.density = 0;
         fixtureDef.friction = 0;
-        fixtureDef.filter.categoryBits = CollisionManager.ENEMY_GROUP;
-        fixtureDef.filter.maskBits = CollisionManager.PLAYER_GROUP;
+        CollisionMatrix.apply(fixtureDef.filter, CollisionCategoryEnum.ROOTED_ENEMY);
 
         // Associate body to world
         body = world.createBody(bodyDef);
         body.setUserData(this);
-        body.createFixture(fixtureDef);
-        shape.dispose();
-
-        // Hitbox definition
-        BodyDef hitBoxDef = new BodyDef();
-        hitBoxDef.type = BodyDef.BodyType.DynamicBody;
-        hitBoxDef.fixedRotation = true;
-        hitBoxDef.position.set(x, y);
-
-        // Define shape
-        PolygonShape hitBoxShape = new PolygonShape();
-        hitBoxShape.setAsBox(4, 12);
+        body.createFixture(fixtureDef).setUserData(CollisionTagEnum.HIVE);
 
-        // Define Fixture
-        FixtureDef hitBoxFixtureDef = new FixtureDef();
-        hitBoxFixtureDef.shape = hitBoxShape;
-        hitBoxFixtureDef.density = 0;
-        hitBoxFixtureDef.friction = 0;
-        hitBoxFixtureDef.filter.categoryBits = CollisionManager.ENEMY_GROUP;
-        hitBoxFixtureDef.filter.maskBits = CollisionManager.WEAPON_GROUP;
-
-        // Associate body to world
-        hitBox = world.createBody(hitBoxDef);
-        hitBox.setUserData(this);
-        hitBox.createFixture(hitBoxFixtureDef);
-        hitBoxShape.dispose();
+        createHitBox(4, 12, 0, CollisionCategoryEnum.ENEMY_HIT_BOX);
     }
 
     /**
      * Draw the Entity frames using Body position
      *
-     * @param batch
+     * @param queue
      * @param stateTime
      */
-    public void draw(final SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
-        batch.begin();
+    public void draw(final RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
         TextureRegion frame = ((AnimatedEntity) entity).getFrame(currentBehavior, mapStateTimeFromBehaviour(stateTime), true);
 
         //Draw Hive
         // If not hurt or the flickering Hive must be shown, draw the texture
         if (!mustFlicker || !GameBehavior.HURT.equals(currentBehavior)) {
-            batch.draw(frame, body.getPosition().x - POSITION_OFFSET, body.getPosition().y - POSITION_Y_OFFSET);
+            queue.submit(frame, drawPosition.x - POSITION_OFFSET, drawPosition.y - POSITION_Y_OFFSET);
         }
 
         // Every 1/8 seconds alternate between showing and hiding the texture to achieve flickering effect
@@ -154,7 +121,6 @@ public class HiveInstance extends AnimatedInstance implements Interactable, Hurt
             // restart flickering timer
             startTime = TimeUtils.nanoTime();
         }
-        batch.end();
     }
 
     @Override
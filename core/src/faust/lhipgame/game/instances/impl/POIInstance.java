@@ -1,7 +1,6 @@
 package faust.lhipgame.game.instances.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -12,8 +11,12 @@ import faust.lhipgame.game.gameentities.enums.ItemEnum;
 import faust.lhipgame.game.gameentities.enums.POIEnum;
 import faust.lhipgame.game.gameentities.impl.POIEntity;
 import faust.lhipgame.game.instances.GameInstance;
+import faust.lhipgame.game.render.RenderQueue;
 import faust.lhipgame.game.splash.SplashManager;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
 import faust.lhipgame.screens.GameScreen;
 
 import java.util.Objects;
@@ -135,25 +138,25 @@ public class POIInstance extends GameInstance {
         fixtureDef.density = 0;
         fixtureDef.friction = 0;
         fixtureDef.isSensor = true;
+        CollisionMatrix.apply(fixtureDef.filter, CollisionCategoryEnum.POI);
 
         // Associate body to world
         body = world.createBody(bodyDef);
         body.setUserData(this);
-        body.createFixture(fixtureDef);
+        body.createFixture(fixtureDef).setUserData(CollisionTagEnum.POI);
 
         shape.dispose();
     }
 
 
     @Override
-    public void draw(SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
-        batch.begin();
+    public void draw(RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
         // If flickering is not enabled or the flickering POI must be shown, draw the texture
         if (!this.enableFlicker || !mustFlicker) {
-            batch.draw(((POIEntity) entity).getFrame(stateTime),
-                    body.getPosition().x - POSITION_OFFSET,
-                    body.getPosition().y - POSITION_OFFSET);
+            queue.submit(((POIEntity) entity).getFrame(stateTime),
+                    drawPosition.x - POSITION_OFFSET,
+                    drawPosition.y - POSITION_OFFSET);
         }
 
         // Every 1/8 seconds alternate between showing and hiding the texture to achieve flickering effect
@@ -163,7 +166,6 @@ public class POIInstance extends GameInstance {
             // restart flickering timer
             startTime = TimeUtils.nanoTime();
         }
-        batch.end();
     }
 
     public void setEnableFlicker(boolean enableFlicker) {
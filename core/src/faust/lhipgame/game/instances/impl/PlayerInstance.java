@@ -6,28 +6,33 @@ import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.TimeUtils;
-import com.badlogic.gdx.utils.Timer;
+import faust.lhipgame.game.ai.Steering;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
 import faust.lhipgame.game.gameentities.interfaces.Attacker;
 import faust.lhipgame.game.gameentities.interfaces.Hurtable;
+import faust.lhipgame.game.gameentities.GameEntity;
 import faust.lhipgame.game.gameentities.enums.Direction;
 import faust.lhipgame.game.gameentities.enums.GameBehavior;
 import faust.lhipgame.game.gameentities.enums.ItemEnum;
 import faust.lhipgame.game.gameentities.impl.PlayerEntity;
 import faust.lhipgame.game.instances.AnimatedInstance;
+import faust.lhipgame.game.instances.AttackHitData;
 import faust.lhipgame.game.instances.GameInstance;
-import faust.lhipgame.game.utils.ShaderWrapper;
-import faust.lhipgame.game.world.manager.CollisionManager;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.rooms.enums.SpatialKindEnum;
+import faust.lhipgame.game.scheduler.ScheduledTask;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
+import faust.lhipgame.game.world.manager.ShapePrototypes;
 import faust.lhipgame.screens.GameScreen;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -39,25 +44,23 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
 
     private static final float PLAYER_SPEED = 50;
     private static final int EXAMINATION_DISTANCE = 40;
-    private static final int ATTACK_VALID_FRAME = 6; // Frame to activate attack sensor
-    private static final float SPEAR_SENSOR_Y_OFFSET = 8;
+    // Spear hits from frame 6 to 9, in front of the player
+    private static final AttackHitData SPEAR_HIT_DATA = new AttackHitData(6, 9)
+            .setHitArea(Direction.RIGHT, 13, 8, 4, 2)
+            .setHitArea(Direction.UP, -4, 21, 2, 4)
+            .setHitArea(Direction.LEFT, -13, 8, 4, 2)
+            .setHitArea(Direction.DOWN, -4, -6, 2, 4);
     private static final float HEALTH_KIT_TIME = 4;
     private static final int MAX_AVAILABLE_HEALTH_KIT = 9;
 
     // Time delta between state and start of attack animation
     private float attackDeltaTime = 0;
 
-    //Body for spear attacks
-    private Body downSpearBody;
-    private Body leftSpearBody;
-    private Body rightSpearBody;
-    private Body upSpearBody;
-
-    private final List<GameInstance> roomPoiList = new ArrayList();
-    private POIInstance nearestPOIInstance;
+    private POIInstance nearestPOIInstance; // Nearest POI in examination distance
+    private POIInstance flickeringPOIInstance;
 
     private int availableHealthKits = 0; // available Health Kits
-    private Timer.Task isHealingTimer;
+    private final ScheduledTask healingTask = new ScheduledTask(this::endHealing);
     private int foundMorgengabes = 0;
     private int holyLancePieces = 0;
     private boolean hasArmor = false;
@@ -75,8 +78,8 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
 
         // Init waterwalk effect
         waterWalkEffect = new ParticleEffect();
-        // First is particle configuration, second is particle sprite path (file is embeeded in configuration)
-        waterWalkEffect.load(Gdx.files.internal("particles/waterwalk_test"), Gdx.files.internal("sprites/"));
+        // First is particle configuration, second is the atlas containing the particle sprite (name is embeeded in configuration)
+        waterWalkEffect.load(Gdx.files.internal("particles/waterwalk_test"), assetManager.get(GameEntity.ATLAS_FILE, TextureAtlas.class));
         waterWalkEffect.start();
     }
 
@@ -88,27 +91,22 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
     @Override
     public void doLogic(float stateTime) {
 
-        translateAccessoryBodies();
-        waterWalkEffect.getEmitters().first().setPosition(body.getPosition().x,body.getPosition().y);
-
-        //If hurt, deactivate hitbox and don't do anything
-        hitBox.setActive(!GameBehavior.HURT.equals(currentBehavior));
+        //If hurt, don't do anything
         if (GameBehavior.HURT.equals(currentBehavior))
             return;
 
         // Interrupt healing if moving
         if (GameBehavior.KNEE.equals(currentBehavior) &&
-                (this.body.getLinearVelocity().x != 0 ||
-                        this.body.getLinearVelocity().y != 0)) {
+                (getVelocityX() != 0 ||
+                        getVelocityY() != 0)) {
             currentBehavior = GameBehavior.WALK;
         }
 
         // If not healing
         if (!GameBehavior.KNEE.equals(currentBehavior)) {
-            if (!Objects.isNull(isHealingTimer)) {
+            if (healingTask.isScheduled()) {
                 // Resetting healing timer if healing is interrupted by anything
-                isHealingTimer.cancel();
-                isHealingTimer = null;
+                scheduler.cancel(healingTask);
                 currentBehavior = GameBehavior.IDLE;
             }
 
@@ -119,23 +117,23 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
             } else {
 
                 // If the player has stopped moving, set idle behaviour
-                if (this.body.getLinearVelocity().x == 0 && this.body.getLinearVelocity().y == 0) {
+                if (getVelocityX() == 0 && getVelocityY() == 0) {
                     currentBehavior = GameBehavior.IDLE;
                 } else {
                     currentBehavior = GameBehavior.WALK;
                 }
 
                 // Set horizontal direction if horizontal velocity is not zero
-                if (this.body.getLinearVelocity().x == PLAYER_SPEED) {
+                if (getVelocityX() == PLAYER_SPEED) {
                     this.currentDirection = Direction.RIGHT;
-                } else if (this.body.getLinearVelocity().x == -PLAYER_SPEED) {
+                } else if (getVelocityX() == -PLAYER_SPEED) {
                     this.currentDirection = Direction.LEFT;
                 }
 
                 // Set vertical direction if vertical velocity is not zero
-                if (this.body.getLinearVelocity().y == PLAYER_SPEED) {
+                if (getVelocityY() == PLAYER_SPEED) {
                     this.currentDirection = Direction.UP;
-                } else if (this.body.getLinearVelocity().y == -PLAYER_SPEED) {
+                } else if (getVelocityY() == -PLAYER_SPEED) {
                     this.currentDirection = Direction.DOWN;
                 }
 
@@ -143,27 +141,32 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
         }
 
         // Checking if there is any unexamined POI near enough to be examined by the player
-        if (!roomPoiList.isEmpty()) {
-
-            roomPoiList.forEach((poi) -> ((POIInstance) poi).setEnableFlicker(false));
-
-            nearestPOIInstance = (POIInstance) this.getNearestInstance(roomPoiList);
-            if (nearestPOIInstance.getBody().getPosition().dst(getBody().getPosition()) <= EXAMINATION_DISTANCE &&
-                    !nearestPOIInstance.isAlreadyExamined()) {
-                nearestPOIInstance.setEnableFlicker(true);
-            }
-        }
+        findNearestPOI();
     }
 
     /**
-     * Translate all accessory body
+     * Finds the nearest POI in examination distance using the room spatial index,
+     * and makes it flicker if not examined yet
      */
-    private void translateAccessoryBodies() {
-        rightSpearBody.setTransform(body.getPosition().x + 13, body.getPosition().y + SPEAR_SENSOR_Y_OFFSET, 0);
-        upSpearBody.setTransform(body.getPosition().x - 4, body.getPosition().y + 13 + SPEAR_SENSOR_Y_OFFSET, 0);
-        leftSpearBody.setTransform(body.getPosition().x - 13, body.getPosition().y + SPEAR_SENSOR_Y_OFFSET, 0);
-        downSpearBody.setTransform(body.getPosition().x - 4, body.getPosition().y - 14 + SPEAR_SENSOR_Y_OFFSET, 0);
-        hitBox.setTransform(body.getPosition().x, body.getPosition().y + 8, 0);
+    private void findNearestPOI() {
+        nearestPOIInstance = null;
+        if (Objects.nonNull(getSpatialGrid())) {
+            nearestPOIInstance = (POIInstance) getSpatialGrid().findNearest(this, EXAMINATION_DISTANCE, SpatialKindEnum.POI);
+        }
+
+        final POIInstance mustFlickerPOI = Objects.nonNull(nearestPOIInstance) && !nearestPOIInstance.isAlreadyExamined() ?
+                nearestPOIInstance : null;
+
+        // Only the POI that changed state must be updated
+        if (mustFlickerPOI != flickeringPOIInstance) {
+            if (Objects.nonNull(flickeringPOIInstance)) {
+                flickeringPOIInstance.setEnableFlicker(false);
+            }
+            if (Objects.nonNull(mustFlickerPOI)) {
+                mustFlickerPOI.setEnableFlicker(true);
+            }
+            flickeringPOIInstance = mustFlickerPOI;
+        }
     }
 
     @Override
@@ -180,24 +183,30 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
         }
     }
 
+    /**
+     * @return false while hurt, the player can't be hit again until recovered
+     */
+    @Override
+    public boolean isHittable() {
+        return !GameBehavior.HURT.equals(currentBehavior);
+    }
+
     @Override
     public void postHurtLogic(GameInstance attacker) {
         // is pushed away while flickering if not attacked by Strix
-        Vector2 direction = new Vector2(attacker.getBody().getPosition().x - body.getPosition().x,
-                attacker.getBody().getPosition().y - body.getPosition().y).nor();
-
         if(!(attacker instanceof StrixInstance)){
-            body.setLinearVelocity(PLAYER_SPEED * 2 * -direction.x, PLAYER_SPEED * 2 * -direction.y);
+            setLinearVelocity(Steering.knockback(getX(), getY(),
+                    attacker.getX(), attacker.getY(), PLAYER_SPEED * 2));
         }
         currentBehavior = GameBehavior.HURT;
         // Do nothing for half second
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                currentBehavior = GameBehavior.IDLE;
-                body.setLinearVelocity(0,0);
-            }
-        }, 0.20f);
+        scheduleHurtRecovery(0.20f);
+    }
+
+    @Override
+    protected void endHurt() {
+        currentBehavior = GameBehavior.IDLE;
+        setLinearVelocity(0,0);
     }
 
     /**
@@ -205,26 +214,12 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
      */
     private void examineNearestPOI() {
         Objects.requireNonNull(nearestPOIInstance);
-        if (nearestPOIInstance.getBody().getPosition().dst(getBody().getPosition()) <= EXAMINATION_DISTANCE &&
+        if (isWithinDistance(nearestPOIInstance, EXAMINATION_DISTANCE) &&
                 !nearestPOIInstance.isAlreadyExamined()) {
             nearestPOIInstance.examine(this);
         }
     }
 
-    /**
-     * Changed the POI list that the Player Instance must check
-     *
-     * @param poiNewList
-     */
-    public void changePOIList(List<POIInstance> poiNewList) {
-        Objects.requireNonNull(poiNewList);
-        roomPoiList.clear();
-        roomPoiList.addAll(poiNewList);
-        if (!roomPoiList.isEmpty()) {
-            nearestPOIInstance = (POIInstance) this.getNearestInstance(roomPoiList);
-        }
-    }
-
     /**
      * Handles player bodies movement
      *
@@ -233,7 +228,7 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
      */
     private void setPlayerLinearVelocity(float horizontalVelocity, float verticalVelocity) {
 
-        this.body.setLinearVelocity(horizontalVelocity, verticalVelocity);
+        setLinearVelocity(horizontalVelocity, verticalVelocity);
     }
 
     public void stopAll() {
@@ -243,12 +238,11 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
     /**
      * Draw the Entity frames using Body position
      *
-     * @param batch
+     * @param queue
      * @param stateTime
      */
-    public void draw(final SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
-        batch.begin();
+    public void draw(final RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
 
         int xOffset = 0;
         int yOffset = 0;
@@ -278,7 +272,7 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
         // If not hurt or the flickering POI must be shown, draw the texture
         if (!mustFlicker || !GameBehavior.HURT.equals(currentBehavior)) {
 
-            drawWalfritShaded(batch, stateTime, xOffset, yOffset);
+            drawWalfritShaded(queue, stateTime, xOffset, yOffset);
         }
 
         // Every 1/8 seconds alternate between showing and hiding the texture to achieve flickering effect
@@ -288,35 +282,33 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
             // restart flickering timer
             startTime = TimeUtils.nanoTime();
         }
-        batch.end();
 
     }
 
     /**
      * Draw Walfrit sprites handling shading
-     * @param batch
+     * @param queue
      * @param stateTime
      * @param xOffset
      * @param yOffset
      */
-    private void drawWalfritShaded(SpriteBatch batch, float stateTime, int xOffset, int yOffset) {
+    private void drawWalfritShaded(RenderQueue queue, float stateTime, int xOffset, int yOffset) {
 
         // Get frame
         TextureRegion frame = ((PlayerEntity) entity).getFrame(currentBehavior, currentDirection,
                 mapStateTimeFromBehaviour(stateTime));
 
-        ShaderWrapper shader = ((PlayerEntity) entity).getPlayerShader();
-        shader.addFlag("hasArmor",hasArmor);
-        shader.addFlag("hasHolyLance",holyLancePieces == 2);
-        shader.setShaderOnBatchWithFlags(batch);
+        ((PlayerEntity) entity).setPlayerShaderFlags(hasArmor, holyLancePieces == 2);
+        queue.setShader(((PlayerEntity) entity).getPlayerShader());
 
         //Draw shadow
-        batch.draw(((PlayerEntity) entity).getShadowTexture(), body.getPosition().x - POSITION_OFFSET, body.getPosition().y - POSITION_Y_OFFSET);
+        queue.submit(((PlayerEntity) entity).getShadowTexture(), drawPosition.x - POSITION_OFFSET, drawPosition.y - POSITION_Y_OFFSET);
 
         //Draw watersteps if submerged
         if(isSubmerged){
+            waterWalkEffect.getEmitters().first().setPosition(drawPosition.x, drawPosition.y);
             waterWalkEffect.update(Gdx.graphics.getDeltaTime());
-            waterWalkEffect.draw(batch);
+            queue.submit(waterWalkEffect);
             yOffset +=2;
             // Do not loop if is not doing anything
             if(waterWalkEffect.isComplete() && GameBehavior.WALK.equals(currentBehavior)){
@@ -326,10 +318,10 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
             waterWalkEffect.reset();
         }
 
-        batch.draw(frame, body.getPosition().x - xOffset - POSITION_OFFSET, body.getPosition().y - yOffset - POSITION_Y_OFFSET);
+        queue.submit(frame, drawPosition.x - xOffset - POSITION_OFFSET, drawPosition.y - yOffset - POSITION_Y_OFFSET);
 
         //Restore default shader
-        shader.resetDefaultShader(batch);
+        queue.setShader(null);
     }
 
     /**
@@ -348,7 +340,7 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
     }
 
     /**
-     * Handle the attack logic, activating and deactivating attack collision bodies
+     * Handle the attack logic, hurting the enemies hit by the spear
      *
      * @param stateTime
      */
@@ -357,33 +349,9 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
         if (attackDeltaTime == 0)
             attackDeltaTime = stateTime;
 
-        //Activate spear bodies when in right frame
+        // Hit enemies in front of the spear when in right frame
         final int currentFrame = ((AnimatedEntity) entity).getFrameIndex(currentBehavior, currentDirection, mapStateTimeFromBehaviour(stateTime));
-        if (currentFrame >= ATTACK_VALID_FRAME && currentFrame < ATTACK_VALID_FRAME+4) {
-            switch (currentDirection) {
-                case UP: {
-                    upSpearBody.setActive(true);
-                    break;
-                }
-                case DOWN: {
-                    downSpearBody.setActive(true);
-                    break;
-                }
-                case LEFT: {
-                    leftSpearBody.setActive(true);
-                    break;
-                }
-                case RIGHT: {
-                    rightSpearBody.setActive(true);
-                    break;
-                }
-            }
-        } else {
-            rightSpearBody.setActive(false);
-            upSpearBody.setActive(false);
-            leftSpearBody.setActive(false);
-            downSpearBody.setActive(false);
-        }
+        resolveAttackHits(SPEAR_HIT_DATA, currentFrame, CollisionCategoryEnum.ENEMY_HIT_BOX);
 
         // Resetting Behaviour on animation end
         if (((AnimatedEntity) entity).isAnimationFinished(currentBehavior, currentDirection, mapStateTimeFromBehaviour(stateTime))) {
@@ -401,142 +369,19 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
         bodyDef.fixedRotation = true;
         bodyDef.position.set(x, y);
 
-        // Define shape
-        PolygonShape shape = new PolygonShape();
-        shape.setAsBox(4, 2);
-
         // Define Fixtures
         FixtureDef mainFixtureDef = new FixtureDef();
-        mainFixtureDef.shape = shape;
+        mainFixtureDef.shape = ShapePrototypes.box(4, 2);
         mainFixtureDef.density = 1;
         mainFixtureDef.friction = 1;
-        mainFixtureDef.filter.categoryBits = CollisionManager.PLAYER_GROUP;
+        CollisionMatrix.apply(mainFixtureDef.filter, CollisionCategoryEnum.PLAYER);
 
         // Associate body to world
         body = world.createBody(bodyDef);
         body.setUserData(this);
-        body.createFixture(mainFixtureDef);
-        shape.dispose();
-
-        BodyDef rightSpearDef = new BodyDef();
-        rightSpearDef.type = BodyDef.BodyType.KinematicBody;
-        rightSpearDef.fixedRotation = true;
-        rightSpearDef.position.set(x+2, y);
-
-        // Define shape
-        PolygonShape rightSpearShape = new PolygonShape();
-        rightSpearShape.setAsBox(4, 2);
-
-        // Define Fixtures
-        FixtureDef rightSpearFixtureDef = new FixtureDef();
-        rightSpearFixtureDef.shape = shape;
-        rightSpearFixtureDef.density = 1;
-        rightSpearFixtureDef.friction = 1;
-        rightSpearFixtureDef.filter.categoryBits = CollisionManager.WEAPON_GROUP;
-        rightSpearFixtureDef.filter.maskBits = CollisionManager.ENEMY_GROUP;
+        body.createFixture(mainFixtureDef).setUserData(CollisionTagEnum.PLAYER);
 
-        // Associate body to world
-        rightSpearBody = world.createBody(rightSpearDef);
-        rightSpearBody.setUserData(this);
-        rightSpearBody.createFixture(rightSpearFixtureDef);
-        rightSpearBody.setActive(false);
-        rightSpearShape.dispose();
-
-        BodyDef upSpearDef = new BodyDef();
-        upSpearDef.type = BodyDef.BodyType.KinematicBody;
-        upSpearDef.fixedRotation = true;
-        upSpearDef.position.set(x, y-2);
-
-        // Define shape
-        PolygonShape upSpearShape = new PolygonShape();
-        upSpearShape.setAsBox(2, 4);
-
-        // Define Fixtures
-        FixtureDef upSpearFixtureDef = new FixtureDef();
-        upSpearFixtureDef.shape = shape;
-        upSpearFixtureDef.density = 1;
-        upSpearFixtureDef.friction = 1;
-        upSpearFixtureDef.filter.categoryBits = CollisionManager.WEAPON_GROUP;
-        upSpearFixtureDef.filter.maskBits = CollisionManager.ENEMY_GROUP;
-
-        // Associate body to world
-        upSpearBody = world.createBody(upSpearDef);
-        upSpearBody.setUserData(this);
-        upSpearBody.createFixture(upSpearFixtureDef);
-        upSpearBody.setActive(false);
-        upSpearShape.dispose();
-
-        BodyDef leftSpearDef = new BodyDef();
-        leftSpearDef.type = BodyDef.BodyType.KinematicBody;
-        leftSpearDef.fixedRotation = true;
-        leftSpearDef.position.set(x-2, y);
-
-        // Define shape
-        PolygonShape leftSpearShape = new PolygonShape();
-        leftSpearShape.setAsBox(4, 2);
-
-        // Define Fixtures
-        FixtureDef leftSpearFixtureDef = new FixtureDef();
-        leftSpearFixtureDef.shape = shape;
-        leftSpearFixtureDef.density = 1;
-        leftSpearFixtureDef.friction = 1;
-        leftSpearFixtureDef.filter.categoryBits = CollisionManager.WEAPON_GROUP;
-        leftSpearFixtureDef.filter.maskBits = CollisionManager.ENEMY_GROUP;
-
-        // Associate body to world
-        leftSpearBody = world.createBody(leftSpearDef);
-        leftSpearBody.setUserData(this);
-        leftSpearBody.createFixture(leftSpearFixtureDef);
-        leftSpearBody.setActive(false);
-        leftSpearShape.dispose();
-
-        BodyDef downSpearDef = new BodyDef();
-        downSpearDef.type = BodyDef.BodyType.KinematicBody;
-        downSpearDef.fixedRotation = true;
-        downSpearDef.position.set(x, y+2);
-
-        // Define shape
-        PolygonShape downSpearShape = new PolygonShape();
-        downSpearShape.setAsBox(2, 4);
-
-        // Define Fixtures
-        FixtureDef downSpearFixtureDef = new FixtureDef();
-        downSpearFixtureDef.shape = shape;
-        downSpearFixtureDef.density = 1;
-        downSpearFixtureDef.friction = 1;
-        downSpearFixtureDef.filter.categoryBits = CollisionManager.WEAPON_GROUP;
-        downSpearFixtureDef.filter.maskBits = CollisionManager.ENEMY_GROUP;
-
-        // Associate body to world
-        downSpearBody = world.createBody(downSpearDef);
-        downSpearBody.setUserData(this);
-        downSpearBody.createFixture(downSpearFixtureDef);
-        downSpearBody.setActive(false);
-        downSpearShape.dispose();
-
-        // Hitbox definition
-        BodyDef hitBoxDef = new BodyDef();
-        hitBoxDef.type = BodyDef.BodyType.DynamicBody;
-        hitBoxDef.fixedRotation = true;
-        hitBoxDef.position.set(x, y);
-
-        // Define shape
-        PolygonShape hitBoxShape = new PolygonShape();
-        hitBoxShape.setAsBox(4, 12);
-
-        // Define Fixture
-        FixtureDef hitBoxFixtureDef = new FixtureDef();
-        hitBoxFixtureDef.shape = hitBoxShape;
-        hitBoxFixtureDef.density = 0;
-        hitBoxFixtureDef.friction = 0;
-        hitBoxFixtureDef.filter.categoryBits = CollisionManager.PLAYER_GROUP;
-        hitBoxFixtureDef.filter.maskBits = CollisionManager.WEAPON_GROUP;
-
-        // Associate body to world
-        hitBox = world.createBody(hitBoxDef);
-        hitBox.setUserData(this);
-        hitBox.createFixture(hitBoxFixtureDef);
-        hitBoxShape.dispose();
+        createHitBox(4, 12, 8, CollisionCategoryEnum.PLAYER_HIT_BOX);
 
 
     }
@@ -560,8 +405,8 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
         }
 
         // Keep the initial velocity
-        float horizontalVelocity = this.body.getLinearVelocity().x;
-        float verticalVelocity = this.body.getLinearVelocity().y;
+        float horizontalVelocity = getVelocityX();
+        float verticalVelocity = getVelocityY();
 
         // Set instance direction and velocity accordingly to the pressed key
         // Check if not moving in opposite direction
@@ -633,8 +478,8 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
             return false;
         }
         // Keep the initial velocity
-        float horizontalVelocity = this.body.getLinearVelocity().x;
-        float verticalVelocity = this.body.getLinearVelocity().y;
+        float horizontalVelocity = getVelocityX();
+        float verticalVelocity = getVelocityY();
 
         // Determine new velocity
         switch (keycode) {
@@ -658,25 +503,23 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
     }
 
     /**
-     * Walfrit cures himself with a health kit, instancing a isHealingTimer
+     * Walfrit cures himself with a health kit, scheduling the healing task
      */
     private void useHealthKit() {
         //If has at least one healing kit, is not already curing himself and at least 1 damage point
-        if (Objects.isNull(isHealingTimer) && availableHealthKits > 0 && damage > 0) {
+        if (!healingTask.isScheduled() && availableHealthKits > 0 && damage > 0) {
             //Cures himself if not interrupted
             currentBehavior = GameBehavior.KNEE;
-            isHealingTimer = Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    availableHealthKits--;
-                    isHealingTimer = null;
-                    damage = 0;
-                    currentBehavior = GameBehavior.IDLE;
-                }
-            }, HEALTH_KIT_TIME);
+            scheduler.schedule(healingTask, HEALTH_KIT_TIME);
         }
     }
 
+    private void endHealing() {
+        availableHealthKits--;
+        damage = 0;
+        currentBehavior = GameBehavior.IDLE;
+    }
+
     /**
      * Called whenever the player finds an item
      *
@@ -745,8 +588,15 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
      *
      * @return healing timer instance, non null if the player is curing himself
      */
-    public Timer.Task getIsHealingTimer() {
-        return isHealingTimer;
+    public boolean isHealing() {
+        return healingTask.isScheduled();
+    }
+
+    /**
+     * @return seconds before healing ends, 0 if not healing
+     */
+    public float getHealingRemainingTime() {
+        return isHealing() ? scheduler.getRemainingTime(healingTask) : 0;
     }
 
     public int getHolyLancePieces() {
@@ -783,6 +633,7 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
 
     public void cleanReferences() {
         nearestPOIInstance = null;
+        flickeringPOIInstance = null;
         //Reset particle emitter and change position
         final ParticleEmitter firstEmitter = waterWalkEffect.getEmitters().first();
         firstEmitter.setPosition(startX,startY);
@@ -805,14 +656,6 @@ public class PlayerInstance extends AnimatedInstance implements InputProcessor,
     @Override
     public void dispose(){
         super.dispose();
-        rightSpearBody.getFixtureList().forEach(f ->
-                rightSpearBody.destroyFixture(f));
-        upSpearBody.getFixtureList().forEach(f ->
-                upSpearBody.destroyFixture(f));
-        leftSpearBody.getFixtureList().forEach(f ->
-                leftSpearBody.destroyFixture(f));
-        downSpearBody.getFixtureList().forEach(f ->
-                downSpearBody.destroyFixture(f));
         waterWalkEffect.dispose();
     }
 
@@ -2,15 +2,13 @@ package faust.lhipgame.game.instances.impl;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.TimeUtils;
-import com.badlogic.gdx.utils.Timer;
+import faust.lhipgame.game.ai.Steering;
 import faust.lhipgame.game.gameentities.AnimatedEntity;
 import faust.lhipgame.game.gameentities.interfaces.Attacker;
 import faust.lhipgame.game.gameentities.interfaces.Hurtable;
@@ -20,7 +18,12 @@ import faust.lhipgame.game.gameentities.impl.StrixEntity;
 import faust.lhipgame.game.instances.AnimatedInstance;
 import faust.lhipgame.game.instances.GameInstance;
 import faust.lhipgame.game.instances.interfaces.Interactable;
-import faust.lhipgame.game.world.manager.CollisionManager;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.scheduler.ScheduledTask;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
+import faust.lhipgame.game.world.manager.ShapePrototypes;
 import faust.lhipgame.screens.GameScreen;
 
 import java.util.Objects;
@@ -36,7 +39,8 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
     private boolean attachedToPlayer = false;
 
     private final PlayerInstance target;
-    private Timer.Task leechLifeTimer;
+    private final ScheduledTask leechLifeTask = new ScheduledTask(this::leechLifeTick);
+    private PlayerInstance leechedPlayer;
 
     public StrixInstance(float x, float y, PlayerInstance target, AssetManager assetManager) {
         super(new StrixEntity(assetManager));
@@ -49,27 +53,29 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
     @Override
     public void doLogic(float stateTime) {
 
-        hitBox.setTransform(body.getPosition().x, body.getPosition().y + 8, 0);
+        // Positions are read from the snapshot of the last step
+        final float x = getX();
+        final float y = getY();
 
         if (GameBehavior.HURT.equals(currentBehavior) || GameBehavior.DEAD.equals(currentBehavior))
             return;
 
-        if (!attachedToPlayer && target.getBody().getPosition().dst(getBody().getPosition()) <= LINE_OF_SIGHT) {
+        final float targetX = target.getX();
+        final float targetY = target.getY();
+
+        if (!attachedToPlayer && isWithinDistance(target, LINE_OF_SIGHT)) {
             currentBehavior = GameBehavior.WALK;
-            // Normal from strix position to target
-            Vector2 direction = new Vector2(target.getBody().getPosition().x - body.getPosition().x,
-                    target.getBody().getPosition().y - body.getPosition().y).nor();
+            // Move towards target
+            final Vector2 velocity = Steering.seek(x, y, targetX, targetY, STRIX_SPEED);
 
             // If not already attached su player
-            currentDirection = extractDirectionFromNormal(direction);
-
-            // Move towards target
-            body.setLinearVelocity(STRIX_SPEED * direction.x, STRIX_SPEED * direction.y);
+            currentDirection = Steering.facing(velocity.x, velocity.y);
+            setLinearVelocity(velocity);
         } else {
 
             currentBehavior = attachedToPlayer ? GameBehavior.ATTACK : GameBehavior.IDLE;
 
-            body.setLinearVelocity(0, 0);
+            setLinearVelocity(0, 0);
         }
     }
 
@@ -82,19 +88,12 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
     public void postHurtLogic(GameInstance attacker) {
 
         // is pushed away while flickering
-        Vector2 direction = new Vector2(attacker.getBody().getPosition().x - body.getPosition().x,
-                attacker.getBody().getPosition().y - body.getPosition().y).nor();
-
-        body.setLinearVelocity(STRIX_SPEED * 4 * -direction.x, STRIX_SPEED * 4 * -direction.y);
+        setLinearVelocity(Steering.knockback(getX(), getY(),
+                attacker.getX(), attacker.getY(), STRIX_SPEED * 4));
         currentBehavior = GameBehavior.HURT;
         attachedToPlayer = false;
         // Do nothing for half second
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                currentBehavior = GameBehavior.IDLE;
-            }
-        }, 0.25f);
+        scheduleHurtRecovery(0.25f);
     }
 
 
@@ -127,73 +126,44 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
         bodyDef.fixedRotation = true;
         bodyDef.position.set(x, y);
 
-        // Define shape
-        PolygonShape shape = new PolygonShape();
-        shape.setAsBox(4, 2);
-
         // Define Fixture
         FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = shape;
+        fixtureDef.shape = ShapePrototypes.box(4, 2);
         fixtureDef.density = 0;
         fixtureDef.friction = 0;
         fixtureDef.isSensor = true;
+        CollisionMatrix.apply(fixtureDef.filter, CollisionCategoryEnum.FLYING_ENEMY);
 
         // Associate body to world
         body = world.createBody(bodyDef);
         body.setUserData(this);
-        body.createFixture(fixtureDef);
-
-        shape.dispose();
-
-        // Hitbox definition
-        BodyDef hitBoxDef = new BodyDef();
-        hitBoxDef.type = BodyDef.BodyType.DynamicBody;
-        hitBoxDef.fixedRotation = true;
-        hitBoxDef.position.set(x, y);
-
-        // Define shape
-        PolygonShape hitBoxShape = new PolygonShape();
-        hitBoxShape.setAsBox(4, 6);
-
-        // Define Fixture
-        FixtureDef hitBoxFixtureDef = new FixtureDef();
-        hitBoxFixtureDef.shape = hitBoxShape;
-        hitBoxFixtureDef.density = 0;
-        hitBoxFixtureDef.friction = 0;
-        hitBoxFixtureDef.filter.categoryBits = CollisionManager.ENEMY_GROUP;
-        hitBoxFixtureDef.filter.maskBits = CollisionManager.WEAPON_GROUP;
+        body.createFixture(fixtureDef).setUserData(CollisionTagEnum.STRIX);
 
-        // Associate body to world
-        hitBox = world.createBody(hitBoxDef);
-        hitBox.setUserData(this);
-        hitBox.createFixture(hitBoxFixtureDef);
-
-        hitBoxShape.dispose();
+        createHitBox(4, 6, 8, CollisionCategoryEnum.ENEMY_HIT_BOX);
     }
 
     /**
      * Draw the Entity frames using Body position
      *
-     * @param batch
+     * @param queue
      * @param stateTime
      */
-    public void draw(final SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
+    public void draw(final RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
 
         TextureRegion frame = ((AnimatedEntity) entity).getFrame(currentBehavior, currentDirection, mapStateTimeFromBehaviour(stateTime));
-        batch.begin();
         //Draw shadow
-        batch.draw(((StrixEntity) entity).getShadowTexture(), body.getPosition().x - POSITION_OFFSET, body.getPosition().y - POSITION_Y_OFFSET);
+        queue.submit(((StrixEntity) entity).getShadowTexture(), drawPosition.x - POSITION_OFFSET, drawPosition.y - POSITION_Y_OFFSET);
 
         //Draw Strix
         if (GameBehavior.IDLE.equals(currentBehavior) || GameBehavior.DEAD.equals(currentBehavior)) {
             // On Idle, the Strix is landed. While walking it flies
-            batch.draw(frame, body.getPosition().x - POSITION_OFFSET, body.getPosition().y - 8 - POSITION_Y_OFFSET);
+            queue.submit(frame, drawPosition.x - POSITION_OFFSET, drawPosition.y - 8 - POSITION_Y_OFFSET);
         } else {
 
             // If not hurt or the flickering POI must be shown, draw the texture
             if (!mustFlicker || !GameBehavior.HURT.equals(currentBehavior)) {
-                batch.draw(frame, body.getPosition().x - POSITION_OFFSET, body.getPosition().y - POSITION_Y_OFFSET);
+                queue.submit(frame, drawPosition.x - POSITION_OFFSET, drawPosition.y - POSITION_Y_OFFSET);
             }
 
             // Every 1/8 seconds alternate between showing and hiding the texture to achieve flickering effect
@@ -204,37 +174,33 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
                 startTime = TimeUtils.nanoTime();
             }
         }
-        batch.end();
 
     }
 
     private void leechLife(PlayerInstance playerInstance) {
 
-        // Force cancel another one must start
-        if (Objects.nonNull(leechLifeTimer)) {
-            leechLifeTimer.cancel();
-        }
-
-        //Keep leeching
-        leechLifeTimer = Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                if (attachedToPlayer) {
-                    playerInstance.hurt(StrixInstance.this);
-                    //Prevents loop on gameover screen
-                    if(playerInstance.isDead()){
-                        ((StrixEntity) entity).stopLeechSound();
-                    }
-                    leechLifeTimer = null;
-                    leechLife(playerInstance);
-                    Gdx.app.log("DEBUG", "END leech timer");
-                }
-            }
-        }, 1);
+        // Rescheduling cancels another one already started
+        leechedPlayer = playerInstance;
+        scheduler.schedule(leechLifeTask, 1);
         Gdx.app.log("DEBUG", "START leech timer");
 
     }
 
+    /**
+     * Keep leeching
+     */
+    private void leechLifeTick() {
+        if (attachedToPlayer) {
+            leechedPlayer.hurt(this);
+            //Prevents loop on gameover screen
+            if(leechedPlayer.isDead()){
+                ((StrixEntity) entity).stopLeechSound();
+            }
+            leechLife(leechedPlayer);
+            Gdx.app.log("DEBUG", "END leech timer");
+        }
+    }
+
     public boolean isAttachedToPlayer() {
         return attachedToPlayer;
     }
@@ -253,8 +219,8 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
         // End leech and cancel timer if present
         attachedToPlayer = false;
         ((StrixEntity) entity).stopLeechSound();
-        if (Objects.nonNull(leechLifeTimer)) {
-            leechLifeTimer.cancel();
+        if (leechLifeTask.isScheduled()) {
+            scheduler.cancel(leechLifeTask);
             Gdx.app.log("DEBUG", "CANCEL leech timer");
         }
     }
@@ -273,7 +239,7 @@ public class StrixInstance extends AnimatedInstance implements Interactable, Hur
             
             if (isDying()) {
                 ((StrixEntity) entity).playDeathCry();
-                body.setLinearVelocity(0, 0);
+                setLinearVelocity(0, 0);
                 currentBehavior = GameBehavior.DEAD;
             } else if (!GameBehavior.HURT.equals(currentBehavior)) {
                 ((StrixEntity) entity).playHurtCry();
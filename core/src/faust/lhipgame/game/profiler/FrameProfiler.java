@@ -0,0 +1,232 @@
+package faust.lhipgame.game.profiler;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.profiler.enums.ProfilerPhaseEnum;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.render.enums.RenderLayerEnum;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Frame time profiler. Times each phase of a frame, keeps a rolling history of
+ * the last frames and shows p50/p95/p99 in milliseconds plus GL draw calls,
+ * texture binds, shader switches and Box2D contacts. When disabled every call returns immediately.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class FrameProfiler {
+
+    private static final int HISTORY_SIZE = 240; // 4 seconds at 60 fps
+    private static final int REFRESH_FRAMES = 30; // Overlay text is rebuilt twice per second
+    private static final float LINE_HEIGHT = 10;
+    private static final Color back = new Color(0x000000c0);
+
+    private static final ProfilerPhaseEnum[] PHASES = ProfilerPhaseEnum.values();
+    private static final int TOTAL = PHASES.length; // Index of frame total in histories
+
+    private final GLProfiler glProfiler;
+    private boolean enabled = false;
+
+    // Ring buffers of phase durations in nanoseconds, last row is the frame total
+    private final long[][] histories = new long[TOTAL + 1][HISTORY_SIZE];
+    private final long[] phaseStart = new long[TOTAL];
+    private final long[] currentFrame = new long[TOTAL];
+    private final long[] sortScratch = new long[HISTORY_SIZE];
+    private int historyIndex = 0;
+    private int historyCount = 0;
+    private int framesSinceRefresh = 0;
+
+    // GL counters of last complete frame
+    private int drawCalls = 0;
+    private int textureBindings = 0;
+    private int shaderSwitches = 0;
+
+    // Box2D contacts of last measure, and those not allowed by the collision matrix
+    private int contacts = 0;
+    private int unexpectedContacts = 0;
+
+    private final StringBuilder overlayText = new StringBuilder();
+
+    /**
+     * @param enabled true if profiler must start enabled
+     */
+    public FrameProfiler(boolean enabled) {
+        glProfiler = new GLProfiler(Gdx.graphics);
+        setEnabled(enabled);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the profiler. GL calls are intercepted only while enabled
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+
+        if (enabled) {
+            glProfiler.enable();
+            glProfiler.reset();
+            historyIndex = 0;
+            historyCount = 0;
+            framesSinceRefresh = REFRESH_FRAMES;
+            overlayText.setLength(0);
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    /**
+     * Starts a new frame. GL counters are read here so that they also
+     * include what was drawn after the end of the previous frame
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        shaderSwitches = glProfiler.getShaderSwitches();
+        glProfiler.reset();
+
+        Arrays.fill(currentFrame, 0);
+    }
+
+    /**
+     * Starts timing a phase
+     *
+     * @param phase
+     */
+    public void begin(ProfilerPhaseEnum phase) {
+        if (!enabled) {
+            return;
+        }
+        phaseStart[phase.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    /**
+     * Ends timing a phase. A phase can be timed more than once per frame
+     *
+     * @param phase
+     */
+    public void end(ProfilerPhaseEnum phase) {
+        if (!enabled) {
+            return;
+        }
+        currentFrame[phase.ordinal()] += TimeUtils.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    /**
+     * Sets the Box2D contact counts of the frame
+     *
+     * @param contacts           contacts that reached the narrowphase
+     * @param unexpectedContacts contacts not allowed by the collision matrix, should always be 0
+     */
+    public void setContactCounts(int contacts, int unexpectedContacts) {
+        this.contacts = contacts;
+        this.unexpectedContacts = unexpectedContacts;
+    }
+
+    /**
+     * Stores the phase durations of the frame in the histories
+     */
+    public void endFrame() {
+        if (!enabled) {
+            return;
+        }
+
+        long total = 0;
+        for (int i = 0; i < TOTAL; i++) {
+            histories[i][historyIndex] = currentFrame[i];
+            total += currentFrame[i];
+        }
+        histories[TOTAL][historyIndex] = total;
+
+        historyIndex = (historyIndex + 1) % HISTORY_SIZE;
+        historyCount = Math.min(historyCount + 1, HISTORY_SIZE);
+
+        if (++framesSinceRefresh >= REFRESH_FRAMES) {
+            framesSinceRefresh = 0;
+            refreshOverlayText();
+        }
+    }
+
+    /**
+     * Submits the overlay on the UI layer, if enabled
+     *
+     * @param queue
+     * @param font
+     */
+    public void drawOverlay(final RenderQueue queue, final BitmapFont font) {
+        if (!enabled || overlayText.length() == 0) {
+            return;
+        }
+        Objects.requireNonNull(queue);
+        Objects.requireNonNull(font);
+
+        queue.setLayer(RenderLayerEnum.UI);
+        queue.submitRect(0, LHIPGame.GAME_HEIGHT - LINE_HEIGHT * (TOTAL + 3) - 2,
+                LHIPGame.GAME_WIDTH, LINE_HEIGHT * (TOTAL + 3) + 2, back);
+        queue.submitText(font, overlayText, 2, LHIPGame.GAME_HEIGHT - 1);
+    }
+
+    /**
+     * Rebuilds the overlay text with the percentiles of each phase
+     */
+    private void refreshOverlayText() {
+        overlayText.setLength(0);
+
+        for (int i = 0; i < TOTAL; i++) {
+            appendPhaseLine(PHASES[i].getLabel(), histories[i]);
+        }
+        appendPhaseLine("TOT", histories[TOTAL]);
+
+        overlayText.append("DC").append(drawCalls)
+                .append(" TB").append(textureBindings)
+                .append(" SW").append(shaderSwitches)
+                .append('\n')
+                .append("CT").append(contacts)
+                .append(" UX").append(unexpectedContacts);
+    }
+
+    private void appendPhaseLine(String label, long[] history) {
+        System.arraycopy(history, 0, sortScratch, 0, historyCount);
+        Arrays.sort(sortScratch, 0, historyCount);
+
+        overlayText.append(label);
+        appendMillis(percentile(50));
+        appendMillis(percentile(95));
+        appendMillis(percentile(99));
+        overlayText.append('\n');
+    }
+
+    /**
+     * @return the nearest-rank percentile of the sorted scratch
+     */
+    private long percentile(int percent) {
+        int rank = (percent * historyCount + 99) / 100;
+        return sortScratch[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Appends nanoseconds as milliseconds with one decimal (no String.format on GWT)
+     */
+    private void appendMillis(long nanos) {
+        final long tenths = nanos / 100000;
+        overlayText.append(' ').append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
@@ -0,0 +1,27 @@
+package faust.lhipgame.game.profiler.enums;
+
+/**
+ * Timed phases of a game frame, with their short label shown in the profiler overlay
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public enum ProfilerPhaseEnum {
+    LOGIC("LOG"),
+    STEP("STP"),
+    BACKGROUND("BKG"),
+    CONTENTS("CNT"),
+    OVERLAYS("OVL"),
+    HUD("HUD"),
+    TEXT("TXT"),
+    FLUSH("FLS");
+
+    private final String label;
+
+    ProfilerPhaseEnum(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
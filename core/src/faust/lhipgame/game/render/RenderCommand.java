@@ -0,0 +1,63 @@
+package faust.lhipgame.game.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import faust.lhipgame.game.utils.ShaderWrapper;
+
+/**
+ * Single pooled draw command submitted to the RenderQueue
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+class RenderCommand {
+
+    static final int REGION = 0;
+    static final int TILE_LAYER = 1; // baked StaticTileLayer
+    static final int PARTICLES = 2;
+    static final int TEXTURE = 3;
+    static final int RECT = 4;
+    static final int TEXT = 5;
+
+    int kind;
+    int layer;
+    int order; // submission order inside the frame, keeps painter's order stable
+    float x;
+    float y;
+    float width;
+    float height;
+
+    TextureRegion region;
+    Texture texture;
+    StaticTileLayer tileLayer;
+    ParticleEffect particleEffect;
+    ShaderWrapper shader; // null means batch default shader
+    final Color color = new Color();
+    BitmapFont font;
+    CharSequence text;
+
+    /**
+     * Drop all references so that nothing is kept alive by the pool
+     */
+    void reset() {
+        region = null;
+        texture = null;
+        tileLayer = null;
+        particleEffect = null;
+        shader = null;
+        font = null;
+        text = null;
+    }
+
+    /**
+     * @return true if this command must be drawn before the other one
+     */
+    boolean isBefore(RenderCommand other) {
+        if (layer != other.layer) {
+            return layer < other.layer;
+        }
+        return order < other.order;
+    }
+}
@@ -0,0 +1,130 @@
+package faust.lhipgame.game.render;
+
+import com.badlogic.gdx.utils.Array;
+import faust.lhipgame.game.instances.GameInstance;
+
+import java.util.Objects;
+
+/**
+ * Persistent list of instances to be drawn, ordered by an integer sort key.
+ * Lower keys are drawn first. Keys are set by the owner once per tick and
+ * then the list is sorted with an insertion sort, which is almost linear
+ * since the order rarely changes between two ticks.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class RenderList {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private GameInstance[] instances = new GameInstance[INITIAL_CAPACITY];
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds an instance at the end of the list. Call sort after refreshing its key
+     *
+     * @param instance
+     */
+    public void add(final GameInstance instance) {
+        Objects.requireNonNull(instance);
+
+        if (size == instances.length) {
+            GameInstance[] newInstances = new GameInstance[size * 2];
+            int[] newKeys = new int[size * 2];
+            System.arraycopy(instances, 0, newInstances, 0, size);
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            instances = newInstances;
+            keys = newKeys;
+        }
+
+        instances[size] = instance;
+        keys[size] = Integer.MAX_VALUE;
+        size++;
+    }
+
+    /**
+     * Adds all the instances
+     *
+     * @param instanceList
+     */
+    public void addAll(final Iterable<? extends GameInstance> instanceList) {
+        Objects.requireNonNull(instanceList);
+
+        for (GameInstance instance : instanceList) {
+            add(instance);
+        }
+    }
+
+    /**
+     * Removes an instance, keeping the order of the others
+     *
+     * @param instance
+     * @return true if removed
+     */
+    public boolean remove(final GameInstance instance) {
+        for (int i = 0; i < size; i++) {
+            if (instances[i] == instance) {
+                System.arraycopy(instances, i + 1, instances, i, size - i - 1);
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                size--;
+                instances[size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public GameInstance get(int index) {
+        return instances[index];
+    }
+
+    public void setKey(int index, int key) {
+        keys[index] = key;
+    }
+
+    /**
+     * Stable insertion sort on the keys
+     */
+    public void sort() {
+        for (int i = 1; i < size; i++) {
+            final GameInstance instance = instances[i];
+            final int key = keys[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                instances[j + 1] = instances[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            instances[j + 1] = instance;
+            keys[j + 1] = key;
+        }
+    }
+
+    /**
+     * Interpolates the draw position of all the instances
+     *
+     * @param alpha fraction of tick elapsed since the last one
+     */
+    public void interpolatePositions(float alpha) {
+        for (int i = 0; i < size; i++) {
+            instances[i].interpolatePosition(alpha);
+        }
+    }
+
+    /**
+     * Submits all the instances in order
+     *
+     * @param queue
+     * @param stateTime
+     */
+    public void draw(final RenderQueue queue, float stateTime) {
+        for (int i = 0; i < size; i++) {
+            instances[i].draw(queue, stateTime);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package faust.lhipgame.game.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import faust.lhipgame.game.render.enums.RenderLayerEnum;
+import faust.lhipgame.game.utils.ShaderWrapper;
+
+import java.util.Objects;
+
+/**
+ * Render queue. Collects all draw commands of a frame and then flushes them
+ * inside a single batch begin/end, switching shader only when needed
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class RenderQueue {
+
+    private final SpriteBatch batch;
+    private final SolidFillRenderer solidFillRenderer;
+
+    // Commands are pooled and reused across frames, only "count" of them are valid
+    private final Array<RenderCommand> commands = new Array<>(false, 64, RenderCommand.class);
+    private int count = 0;
+
+    private RenderLayerEnum currentLayer = RenderLayerEnum.TERRAIN;
+    private ShaderWrapper currentShader = null;
+
+    // Stats of last flush
+    private int lastRenderCalls = 0;
+    private int lastCommandCount = 0;
+    private int lastShaderSwitches = 0;
+
+    /**
+     * @param batch             the only batch used for rendering the frame
+     * @param solidFillRenderer used for solid color rectangles
+     */
+    public RenderQueue(final SpriteBatch batch, final SolidFillRenderer solidFillRenderer) {
+        Objects.requireNonNull(batch);
+        Objects.requireNonNull(solidFillRenderer);
+
+        this.batch = batch;
+        this.solidFillRenderer = solidFillRenderer;
+    }
+
+    /**
+     * Empties the queue. To be called at the beginning of each frame
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            commands.get(i).reset();
+        }
+        count = 0;
+        currentLayer = RenderLayerEnum.TERRAIN;
+        currentShader = null;
+    }
+
+    /**
+     * Sets the layer of the next submitted commands
+     *
+     * @param layer
+     */
+    public void setLayer(final RenderLayerEnum layer) {
+        Objects.requireNonNull(layer);
+        this.currentLayer = layer;
+    }
+
+    /**
+     * Sets the shader of the next submitted commands. Null means default shader
+     *
+     * @param shader
+     */
+    public void setShader(final ShaderWrapper shader) {
+        this.currentShader = shader;
+    }
+
+    /**
+     * Submits a texture region
+     */
+    public void submit(final TextureRegion region, float x, float y) {
+        Objects.requireNonNull(region);
+
+        RenderCommand command = obtain(RenderCommand.REGION, x, y);
+        command.region = region;
+    }
+
+    /**
+     * Submits a whole texture
+     */
+    public void submit(final Texture texture, float x, float y) {
+        Objects.requireNonNull(texture);
+
+        RenderCommand command = obtain(RenderCommand.TEXTURE, x, y);
+        command.texture = texture;
+    }
+
+    /**
+     * Submits a baked tile layer, drawn with a single batch call
+     */
+    public void submit(final StaticTileLayer tileLayer) {
+        Objects.requireNonNull(tileLayer);
+
+        RenderCommand command = obtain(RenderCommand.TILE_LAYER, 0, 0);
+        command.tileLayer = tileLayer;
+    }
+
+    /**
+     * Submits a particle effect. Effect must be updated by the caller
+     */
+    public void submit(final ParticleEffect particleEffect) {
+        Objects.requireNonNull(particleEffect);
+
+        RenderCommand command = obtain(RenderCommand.PARTICLES, 0, 0);
+        command.particleEffect = particleEffect;
+    }
+
+    /**
+     * Submits a solid color rectangle
+     */
+    public void submitRect(float x, float y, float width, float height, final Color color) {
+        Objects.requireNonNull(color);
+
+        RenderCommand command = obtain(RenderCommand.RECT, x, y);
+        command.width = width;
+        command.height = height;
+        command.color.set(color);
+    }
+
+    /**
+     * Submits a text. Text must not be changed until flush
+     */
+    public void submitText(final BitmapFont font, final CharSequence text, float x, float y) {
+        Objects.requireNonNull(font);
+        Objects.requireNonNull(text);
+
+        RenderCommand command = obtain(RenderCommand.TEXT, x, y);
+        command.font = font;
+        command.text = text;
+    }
+
+    /**
+     * @return a pooled command initialized with current layer and shader
+     */
+    private RenderCommand obtain(int kind, float x, float y) {
+        RenderCommand command;
+        if (count < commands.size) {
+            command = commands.get(count);
+        } else {
+            command = new RenderCommand();
+            commands.add(command);
+        }
+
+        command.kind = kind;
+        command.layer = currentLayer.ordinal();
+        command.order = count;
+        command.x = x;
+        command.y = y;
+        command.shader = currentShader;
+        count++;
+
+        return command;
+    }
+
+    /**
+     * Draws all the submitted commands in a single batch pass
+     *
+     * @param camera
+     */
+    public void flush(final OrthographicCamera camera) {
+        Objects.requireNonNull(camera);
+
+        sortCommands();
+
+        batch.setProjectionMatrix(camera.combined);
+
+        int shaderSwitches = 0;
+        ShaderWrapper activeShader = null;
+
+        batch.begin();
+        for (int i = 0; i < count; i++) {
+            RenderCommand command = commands.get(i);
+
+            if (command.shader != activeShader) {
+                if (Objects.isNull(command.shader)) {
+                    batch.setShader(null);
+                } else {
+                    command.shader.setShaderOnBatch(batch);
+                }
+                activeShader = command.shader;
+                shaderSwitches++;
+            }
+
+            switch (command.kind) {
+                case RenderCommand.REGION: {
+                    batch.draw(command.region, command.x, command.y);
+                    break;
+                }
+                case RenderCommand.TEXTURE: {
+                    batch.draw(command.texture, command.x, command.y);
+                    break;
+                }
+                case RenderCommand.TILE_LAYER: {
+                    batch.draw(command.tileLayer.getTexture(), command.tileLayer.getVertices(), 0, command.tileLayer.getVerticesCount());
+                    break;
+                }
+                case RenderCommand.PARTICLES: {
+                    command.particleEffect.draw(batch);
+                    break;
+                }
+                case RenderCommand.RECT: {
+                    solidFillRenderer.fillRect(batch, command.x, command.y, command.width, command.height, command.color);
+                    break;
+                }
+                case RenderCommand.TEXT: {
+                    command.font.draw(batch, command.text, command.x, command.y);
+                    break;
+                }
+            }
+        }
+
+        if (Objects.nonNull(activeShader)) {
+            batch.setShader(null);
+        }
+        batch.end();
+
+        lastRenderCalls = batch.renderCalls;
+        lastCommandCount = count;
+        lastShaderSwitches = shaderSwitches;
+    }
+
+    /**
+     * Stable insertion sort by layer and submission order. Commands are
+     * almost always submitted already sorted, so this is nearly linear
+     */
+    private void sortCommands() {
+        RenderCommand[] items = commands.items;
+        for (int i = 1; i < count; i++) {
+            RenderCommand toInsert = items[i];
+            int j = i - 1;
+            while (j >= 0 && toInsert.isBefore(items[j])) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = toInsert;
+        }
+    }
+
+    /**
+     * @return number of batch render calls done by the last flush
+     */
+    public int getLastRenderCalls() {
+        return lastRenderCalls;
+    }
+
+    /**
+     * @return number of commands drawn by the last flush
+     */
+    public int getLastCommandCount() {
+        return lastCommandCount;
+    }
+
+    /**
+     * @return number of shader switches done by the last flush
+     */
+    public int getLastShaderSwitches() {
+        return lastShaderSwitches;
+    }
+}
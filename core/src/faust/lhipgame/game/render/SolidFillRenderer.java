@@ -0,0 +1,45 @@
+package faust.lhipgame.game.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Objects;
+
+/**
+ * Draws solid color rectangles by stretching a white pixel of the game atlas,
+ * so that they can be drawn in the same batch of the sprites
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class SolidFillRenderer {
+
+    private final TextureRegion whitePixel;
+
+    /**
+     * @param whitePixel 1x1 white region of the game atlas
+     */
+    public SolidFillRenderer(final TextureRegion whitePixel) {
+        Objects.requireNonNull(whitePixel);
+
+        this.whitePixel = whitePixel;
+    }
+
+    /**
+     * Draws a filled rectangle. Batch must be drawing
+     *
+     * @param batch
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     * @param color
+     */
+    public void fillRect(final Batch batch, float x, float y, float width, float height, final Color color) {
+        // Changing batch color does not cause a flush
+        final float previousColor = batch.getPackedColor();
+        batch.setColor(color);
+        batch.draw(whitePixel, x, y, width, height);
+        batch.setPackedColor(previousColor);
+    }
+}
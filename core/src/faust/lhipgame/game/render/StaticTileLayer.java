@@ -0,0 +1,127 @@
+package faust.lhipgame.game.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+import java.util.Objects;
+
+/**
+ * Tile layer baked once in a static vertex array, ready to be drawn
+ * by the batch with a single call. Tiles are remapped on the atlas
+ * region containing the tileset image.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class StaticTileLayer {
+
+    // Same vertex layout used by SpriteBatch: x, y, color, u, v for each corner
+    private static final int VERTEX_SIZE = 5;
+    private static final int SPRITE_SIZE = 4 * VERTEX_SIZE;
+
+    private final Texture texture;
+    private final float[] vertices;
+    private final int verticesCount;
+
+    /**
+     * Bakes the layer
+     *
+     * @param layer          the tile layer to bake
+     * @param tilesetRegion  atlas region of the tileset image used by the layer
+     */
+    public StaticTileLayer(final TiledMapTileLayer layer, final TextureRegion tilesetRegion) {
+        Objects.requireNonNull(layer);
+        Objects.requireNonNull(tilesetRegion);
+
+        this.texture = tilesetRegion.getTexture();
+
+        final float invTexWidth = 1f / texture.getWidth();
+        final float invTexHeight = 1f / texture.getHeight();
+        final float tileWidth = layer.getTileWidth();
+        final float tileHeight = layer.getTileHeight();
+        final float layerOffsetX = layer.getRenderOffsetX();
+        final float layerOffsetY = -layer.getRenderOffsetY();
+        final float color = Color.WHITE_FLOAT_BITS;
+
+        float[] tmpVertices = new float[layer.getWidth() * layer.getHeight() * SPRITE_SIZE];
+        int idx = 0;
+
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                final TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (Objects.isNull(cell) || Objects.isNull(cell.getTile())) {
+                    continue;
+                }
+
+                final TiledMapTile tile = cell.getTile();
+                final TextureRegion tileRegion = tile.getTextureRegion();
+
+                final float x1 = col * tileWidth + layerOffsetX + tile.getOffsetX();
+                final float y1 = row * tileHeight + layerOffsetY + tile.getOffsetY();
+                final float x2 = x1 + tileRegion.getRegionWidth();
+                final float y2 = y1 + tileRegion.getRegionHeight();
+
+                // Tile position inside the tileset, moved inside the atlas
+                final int regionX = tilesetRegion.getRegionX() + tileRegion.getRegionX();
+                final int regionY = tilesetRegion.getRegionY() + tileRegion.getRegionY();
+                float u1 = regionX * invTexWidth;
+                float v1 = (regionY + tileRegion.getRegionHeight()) * invTexHeight;
+                float u2 = (regionX + tileRegion.getRegionWidth()) * invTexWidth;
+                float v2 = regionY * invTexHeight;
+
+                if (cell.getFlipHorizontally()) {
+                    float tmp = u1;
+                    u1 = u2;
+                    u2 = tmp;
+                }
+                if (cell.getFlipVertically()) {
+                    float tmp = v1;
+                    v1 = v2;
+                    v2 = tmp;
+                }
+
+                // Bottom left, top left, top right, bottom right
+                tmpVertices[idx++] = x1;
+                tmpVertices[idx++] = y1;
+                tmpVertices[idx++] = color;
+                tmpVertices[idx++] = u1;
+                tmpVertices[idx++] = v1;
+
+                tmpVertices[idx++] = x1;
+                tmpVertices[idx++] = y2;
+                tmpVertices[idx++] = color;
+                tmpVertices[idx++] = u1;
+                tmpVertices[idx++] = v2;
+
+                tmpVertices[idx++] = x2;
+                tmpVertices[idx++] = y2;
+                tmpVertices[idx++] = color;
+                tmpVertices[idx++] = u2;
+                tmpVertices[idx++] = v2;
+
+                tmpVertices[idx++] = x2;
+                tmpVertices[idx++] = y1;
+                tmpVertices[idx++] = color;
+                tmpVertices[idx++] = u2;
+                tmpVertices[idx++] = v1;
+            }
+        }
+
+        this.vertices = tmpVertices;
+        this.verticesCount = idx;
+    }
+
+    public Texture getTexture() {
+        return texture;
+    }
+
+    public float[] getVertices() {
+        return vertices;
+    }
+
+    public int getVerticesCount() {
+        return verticesCount;
+    }
+}
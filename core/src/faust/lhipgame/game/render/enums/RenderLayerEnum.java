@@ -0,0 +1,13 @@
+package faust.lhipgame.game.render.enums;
+
+/**
+ * Render layer enum. Layers are drawn in declaration order
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public enum RenderLayerEnum {
+    TERRAIN,
+    CONTENTS,
+    OVERLAY,
+    UI
+}
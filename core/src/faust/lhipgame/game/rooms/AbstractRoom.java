@@ -3,16 +3,18 @@ package faust.lhipgame.game.rooms;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapLayers;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.objects.PolygonMapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
 import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.ai.FlowField;
+import faust.lhipgame.game.gameentities.GameEntity;
 import faust.lhipgame.game.gameentities.interfaces.Hurtable;
 import faust.lhipgame.game.gameentities.enums.DecorationsEnum;
 import faust.lhipgame.game.gameentities.enums.GameBehavior;
@@ -22,12 +24,17 @@ import faust.lhipgame.game.instances.GameInstance;
 import faust.lhipgame.game.instances.impl.*;
 import faust.lhipgame.game.music.MusicManager;
 import faust.lhipgame.game.music.enums.TuneEnum;
-import faust.lhipgame.game.rooms.areas.EmergedArea;
-import faust.lhipgame.game.rooms.areas.WallArea;
+import faust.lhipgame.game.render.RenderList;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.render.StaticTileLayer;
+import faust.lhipgame.game.render.enums.RenderLayerEnum;
+import faust.lhipgame.game.rooms.areas.RoomGeometry;
 import faust.lhipgame.game.rooms.enums.MapLayersEnum;
-import faust.lhipgame.game.rooms.enums.MapObjNameEnum;
 import faust.lhipgame.game.rooms.enums.RoomFlagEnum;
 import faust.lhipgame.game.rooms.enums.RoomTypeEnum;
+import faust.lhipgame.game.rooms.enums.SpatialKindEnum;
+import faust.lhipgame.game.rooms.manager.RoomTemplateCache;
+import faust.lhipgame.game.rooms.manager.TiledMapCache;
 import faust.lhipgame.game.splash.SplashManager;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.game.world.manager.WorldManager;
@@ -53,15 +60,17 @@ public abstract class AbstractRoom {
     public static final float RIGHT_BOUNDARY = LHIPGame.GAME_WIDTH - 12;
     public static final float TOP_BOUNDARY = LHIPGame.GAME_HEIGHT - 24;
 
+    private static final String TERRAINS_FOLDER = "terrains/";
+
     protected TiledMap tiledMap;
-    protected OrthogonalTiledMapRenderer tiledMapRenderer;
-    protected MapObjects mapObjects;
+    protected StaticTileLayer terrainLayer;
+    protected StaticTileLayer overlayLayer;
+    protected RoomTemplate roomTemplate;
 
     protected List<POIInstance> poiList;
     protected List<DecorationInstance> decorationList;
     protected List<AnimatedInstance> enemyList;
-    protected List<WallArea> wallList;
-    protected List<EmergedArea> emergedAreaList;
+    protected RoomGeometry roomGeometry;
     protected PlayerInstance player;
     protected RoomTypeEnum roomType;
     protected String roomFileName;
@@ -71,7 +80,22 @@ public abstract class AbstractRoom {
 
     protected boolean mustClearPOI = false;
 
+    // Depth bands of the render sort key, drawn in this order
+    protected static final int DEPTH_BAND_GROUND = 0;
+    protected static final int DEPTH_BAND_DEFAULT = 1;
+    protected static final int DEPTH_BAND_TOP = 2;
+    private static final int DEPTH_BAND_SHIFT = 16;
+    private static final int DEPTH_Y_MASK = 0xFFFF;
+    private static final int DEPTH_Y_OFFSET = 0x8000;
+
+    protected final RenderList renderList = new RenderList();
+    protected final SpatialGrid spatialGrid = new SpatialGrid();
+    protected final FlowField flowField = new FlowField();
+    protected final TerrainGrid terrainGrid = new TerrainGrid();
+    private final Vector2 shapeVertex = new Vector2();
+
     protected final Map<RoomFlagEnum, Boolean> roomFlags;
+    private final TiledMapCache mapCache;
 
     /**
      * Constructor
@@ -85,25 +109,30 @@ public abstract class AbstractRoom {
      * @param roomSaveEntry
      * @param roomFlags
      * @param musicManager
+     * @param roomTemplates
+     * @param mapCache
      */
-    public AbstractRoom(final RoomTypeEnum roomType, final WorldManager worldManager, final TextBoxManager textManager, final SplashManager splashManager, final PlayerInstance player, final OrthographicCamera camera, final AssetManager assetManager, final RoomSaveEntry roomSaveEntry, Map<RoomFlagEnum, Boolean> roomFlags, MusicManager musicManager) {
+    public AbstractRoom(final RoomTypeEnum roomType, final WorldManager worldManager, final TextBoxManager textManager, final SplashManager splashManager, final PlayerInstance player, final OrthographicCamera camera, final AssetManager assetManager, final RoomSaveEntry roomSaveEntry, Map<RoomFlagEnum, Boolean> roomFlags, MusicManager musicManager, final RoomTemplateCache roomTemplates, final TiledMapCache mapCache) {
         Objects.requireNonNull(worldManager);
         Objects.requireNonNull(textManager);
         Objects.requireNonNull(player);
         Objects.requireNonNull(roomType);
+        Objects.requireNonNull(roomTemplates);
+        Objects.requireNonNull(mapCache);
 
         this.roomFlags = roomFlags;
+        this.mapCache = mapCache;
 
         // Load tiled map by name
         this.roomType = roomType;
-        this.roomFileName = "terrains/" + roomType.getMapFileName();
-        loadTiledMap(roomSaveEntry);
+        this.roomFileName = TERRAINS_FOLDER + roomType.getMapFileName();
+        loadTiledMap(roomSaveEntry, assetManager);
 
-        // Extract mapObjects
-        mapObjects = tiledMap.getLayers().get(MapLayersEnum.OBJECT_LAYER.getLayerName()).getObjects();
+        // Bake static tile layers once
+        bakeTileLayers(assetManager);
 
-        // Set camera for rendering
-        tiledMapRenderer.setView(camera);
+        // Get precompiled contents
+        roomTemplate = roomTemplates.get(roomFileName);
 
         // Add content to room
         this.player = player;
@@ -113,167 +142,210 @@ public abstract class AbstractRoom {
         poiList = new ArrayList<>();
         decorationList = new ArrayList<>();
         enemyList = new ArrayList<>();
-        wallList = new ArrayList<>();
-        emergedAreaList = new ArrayList<>();
 
         // Place objects in room
-        mapObjects.forEach(obj -> {
+        Gdx.app.log("DEBUG", "guaranteedMorgengabe: " + roomFlags.get(RoomFlagEnum.GUARANTEED_MORGENGABE));
+        for (int i = 0; i < roomTemplate.getPoiCount(); i++) {
+            addPOI(i, textManager, assetManager);
+        }
 
-            // Prepare POI
-            if (MapObjNameEnum.POI.name().equals(obj.getName())) {
-                addObjAsPOI(obj, textManager, assetManager);
-            }
+        for (int i = 0; i < roomTemplate.getDecorationCount(); i++) {
+            addDecoration(i, assetManager);
+        }
 
-            // Prepare decoration
-            if (MapObjNameEnum.DECO.name().equals(obj.getName())) {
-                addObjAsDecoration(obj, assetManager);
+        // Prepare enemy if they are enabled
+        if (!roomFlags.get(RoomFlagEnum.DISABLED_ENEMIES)) {
+            for (int i = 0; i < roomTemplate.getEnemyCount(); i++) {
+                addEnemy(i, assetManager);
             }
+        }
 
-            // Prepare enemy if they are enabled
-            if (!roomFlags.get(RoomFlagEnum.DISABLED_ENEMIES) && MapObjNameEnum.ENEMY.name().equals(obj.getName())) {
-                addObjAsEnemy(obj, assetManager);
-            }
+        // Walls are merged on a single static body, water is found on the terrain grid
+        roomGeometry = new RoomGeometry(roomTemplate);
+        terrainGrid.build(roomTemplate);
 
-            // Prepare enemy (casual choice)
-            if (MapObjNameEnum.WALL.name().equals(obj.getName())) {
-                addObjAsWall(obj);
-            }
-
-            // Prepare enemy (casual choice)
-            if (MapObjNameEnum.EMERGED.name().equals(obj.getName())) {
-                addObjAsEmerged(obj);
-            }
-        });
+        // Player keeps its velocity in the new room, read before its old body is destroyed
+        final boolean hasPlayerBody = Objects.nonNull(player.getBody());
+        final float playerVelocityX = hasPlayerBody ? player.getVelocityX() : 0;
+        final float playerVelocityY = hasPlayerBody ? player.getVelocityY() : 0;
 
         worldManager.clearBodies();
-        worldManager.insertPlayerIntoWorld(player, player.getStartX(), player.getStartY());
+        worldManager.insertPlayerIntoWorld(player, player.getStartX(), player.getStartY(), playerVelocityX, playerVelocityY);
         worldManager.insertPOIIntoWorld(poiList);
         worldManager.insertDecorationsIntoWorld(decorationList);
         worldManager.insertEnemiesIntoWorld(enemyList);
-        worldManager.insertWallsIntoWorld(wallList);
-        worldManager.insertEmergedAreasIntoWorld(emergedAreaList);
-        player.changePOIList(poiList);
+        worldManager.insertRoomGeometryIntoWorld(roomGeometry);
+
+        // Index instances for proximity queries, bodies are now in the world
+        poiList.forEach((poi) -> spatialGrid.insertStatic(poi, SpatialKindEnum.POI));
+        decorationList.forEach((deco) -> spatialGrid.insertStatic(deco, SpatialKindEnum.DECORATION));
+        spatialGrid.insertDynamic(player, SpatialKindEnum.PLAYER);
+        enemyList.forEach((ene) -> spatialGrid.insertDynamic(ene, SpatialKindEnum.ENEMY));
+
+        // Enemies chase the player on a flow field shared by the whole room
+        buildFlowField();
+        enemyList.forEach((ene) -> ene.setFlowField(flowField));
+
+        // Prepare render list
+        renderList.addAll(poiList);
+        renderList.addAll(decorationList);
+        renderList.add(player);
+        renderList.addAll(enemyList);
 
         // Do other stuff
         this.initRoom(roomType, worldManager, textManager, splashManager, player, camera, assetManager);
+
+        refreshRenderList();
     }
 
     /**
-     * Add invisible walls
-     *
-     * @param obj
+     * Sets walls and solid decorations as obstacles of the flow field, and water
+     * as slower to cross. Bodies must be already in the world
      */
-    protected void addObjAsWall(MapObject obj) {
+    private void buildFlowField() {
+        flowField.setTerrainCosts(terrainGrid);
 
-        RectangleMapObject mapObject = (RectangleMapObject) obj;
+        for (int i = 0; i < roomTemplate.getWallCount(); i++) {
+            flowField.blockRectangle(roomTemplate.getWallX(i), roomTemplate.getWallY(i),
+                    roomTemplate.getWallWidth(i), roomTemplate.getWallHeight(i));
+        }
 
-        wallList.add(new WallArea(mapObject.getRectangle()));
+        decorationList.forEach((deco) -> {
+            if (!deco.isPassable()) {
+                blockBodyBounds(deco.getBody());
+            }
+        });
     }
 
     /**
-     * Add invisible emerged areas
-     *
-     * @param obj
+     * Blocks on the flow field the bounding box of the polygon fixtures of a body
      */
-    protected void addObjAsEmerged(MapObject obj) {
+    private void blockBodyBounds(final Body body) {
+        for (Fixture fixture : body.getFixtureList()) {
+            if (!(fixture.getShape() instanceof PolygonShape)) {
+                continue;
+            }
 
-        PolygonMapObject mapObject = (PolygonMapObject) obj;
+            final PolygonShape shape = (PolygonShape) fixture.getShape();
+            float minX = Float.MAX_VALUE;
+            float minY = Float.MAX_VALUE;
+            float maxX = -Float.MAX_VALUE;
+            float maxY = -Float.MAX_VALUE;
+            for (int v = 0; v < shape.getVertexCount(); v++) {
+                shape.getVertex(v, shapeVertex);
+                minX = Math.min(minX, shapeVertex.x);
+                minY = Math.min(minY, shapeVertex.y);
+                maxX = Math.max(maxX, shapeVertex.x);
+                maxY = Math.max(maxY, shapeVertex.y);
+            }
 
-        emergedAreaList.add(new EmergedArea(mapObject.getPolygon()));
+            final Vector2 position = body.getPosition();
+            flowField.blockRectangle(position.x + minX, position.y + minY, maxX - minX, maxY - minY);
+        }
     }
 
     /**
      * Implements tiled map load
      *
      * @param roomSaveEntry if needed
+     * @param assetManager
      */
-    protected abstract void loadTiledMap(RoomSaveEntry roomSaveEntry);
+    protected abstract void loadTiledMap(RoomSaveEntry roomSaveEntry, AssetManager assetManager);
 
     /**
-     * Add a object as POI
+     * Gets the Tiled map of the room. Maps are borrowed from the TiledMapCache by
+     * the RoomsManager, which usually has already prefetched it; if not, this blocks
+     * until it is loaded
      *
-     * @param obj
-     * @param textManager
+     * @return the Tiled map
+     */
+    protected TiledMap getTiledMap() {
+        return mapCache.get(roomFileName);
+    }
+
+    /**
+     * @param roomType
+     * @param casualNumber used only by casual rooms
+     * @return the Tiled map file name of a room
      */
-    protected void addObjAsPOI(MapObject obj, TextBoxManager textManager, AssetManager assetManager) {
+    public static String getRoomFileName(RoomTypeEnum roomType, int casualNumber) {
+        Objects.requireNonNull(roomType);
 
-        POIEnum poiType = POIEnum.getFromString((String) obj.getProperties().get("type"));
-        Objects.requireNonNull(poiType);
+        return TERRAINS_FOLDER + roomType.getMapFileName().replace("%d", Integer.toString(casualNumber));
+    }
 
-        Gdx.app.log("DEBUG", "guaranteedMorgengabe: " + roomFlags.get(RoomFlagEnum.GUARANTEED_MORGENGABE));
+    /**
+     * Add a POI
+     *
+     * @param index in the room template
+     * @param textManager
+     * @param assetManager
+     */
+    protected void addPOI(int index, TextBoxManager textManager, AssetManager assetManager) {
 
         poiList.add(new POIInstance(textManager,
-                (float) obj.getProperties().get("x"),
-                (float) obj.getProperties().get("y"),
-                poiType, player, splashManager, assetManager,
+                roomTemplate.getPoiX(index),
+                roomTemplate.getPoiY(index),
+                roomTemplate.getPoiType(index), player, splashManager, assetManager,
                 roomFlags.get(RoomFlagEnum.GUARANTEED_MORGENGABE)));
     }
 
     /**
-     * Add a object as Decoration
+     * Add a Decoration
      *
-     * @param obj MapObject to add
+     * @param index in the room template
+     * @param assetManager
      */
-    protected void addObjAsDecoration(MapObject obj, AssetManager assetManager) {
-
-        DecorationsEnum decoType = DecorationsEnum.getFromString((String) obj.getProperties().get("type"));
-        Objects.requireNonNull(decoType);
+    protected void addDecoration(int index, AssetManager assetManager) {
 
         decorationList.add(new DecorationInstance(
-                (float) obj.getProperties().get("x"),
-                (float) obj.getProperties().get("y"),
-                decoType, assetManager));
+                roomTemplate.getDecorationX(index),
+                roomTemplate.getDecorationY(index),
+                roomTemplate.getDecorationType(index), assetManager));
     }
 
     /**
-     * Add a object as Enemy
+     * Add an Enemy
      *
-     * @param obj MapObject to add
+     * @param index in the room template
+     * @param assetManager
      */
-    protected void addObjAsEnemy(MapObject obj, AssetManager assetManager) {
+    protected void addEnemy(int index, AssetManager assetManager) {
 
         AnimatedInstance enemyInstance = null;
-        String enemyType = (String) obj.getProperties().get("type");
-
-        //TODO Improve
-        if ("HIVE".equals(enemyType)) {
-            enemyInstance = new HiveInstance(
-                    (float) obj.getProperties().get("x"),
-                    (float) obj.getProperties().get("y"),
-                    assetManager,
-                    textManager);
-        } else if ("SPITTER".equals(enemyType)) {
-            enemyInstance = new SpitterInstance(
-                    (float) obj.getProperties().get("x"),
-                    (float) obj.getProperties().get("y"),
-                    assetManager,
-                    textManager);
-        } else if (roomFlags.get(RoomFlagEnum.GUARDANTEED_BOUNDED)) {
-            enemyInstance = new BoundedInstance(
-                    (float) obj.getProperties().get("x"),
-                    (float) obj.getProperties().get("y"),
-                    player,
-                    assetManager);
-
-            //Show splash only the first time
-            if (!roomFlags.get(RoomFlagEnum.FIRST_BOUNDED_ENCOUNTERED))
-                splashManager.setSplashToShow("splash.bounded");
-
-            roomFlags.put(RoomFlagEnum.FIRST_BOUNDED_ENCOUNTERED,true);
-        } else {
-            enemyInstance = new StrixInstance(
-                    (float) obj.getProperties().get("x"),
-                    (float) obj.getProperties().get("y"),
-                    player,
-                    assetManager);
-
-            //Show splash only the first time
-            if (!roomFlags.get(RoomFlagEnum.FIRST_STRIX_ENCOUNTERED))
-                splashManager.setSplashToShow("splash.strix");
-
-            roomFlags.put(RoomFlagEnum.FIRST_STRIX_ENCOUNTERED,true);
-        }
+        final float x = roomTemplate.getEnemyX(index);
+        final float y = roomTemplate.getEnemyY(index);
 
+        switch (roomTemplate.getEnemyKind(index)) {
+            case RoomTemplate.ENEMY_HIVE: {
+                enemyInstance = new HiveInstance(x, y, assetManager, textManager);
+                break;
+            }
+            case RoomTemplate.ENEMY_SPITTER: {
+                enemyInstance = new SpitterInstance(x, y, assetManager, textManager);
+                break;
+            }
+            default: {
+                if (roomFlags.get(RoomFlagEnum.GUARDANTEED_BOUNDED)) {
+                    enemyInstance = new BoundedInstance(x, y, player, assetManager);
+
+                    //Show splash only the first time
+                    if (!roomFlags.get(RoomFlagEnum.FIRST_BOUNDED_ENCOUNTERED))
+                        splashManager.setSplashToShow("splash.bounded");
+
+                    roomFlags.put(RoomFlagEnum.FIRST_BOUNDED_ENCOUNTERED, true);
+                } else {
+                    enemyInstance = new StrixInstance(x, y, player, assetManager);
+
+                    //Show splash only the first time
+                    if (!roomFlags.get(RoomFlagEnum.FIRST_STRIX_ENCOUNTERED))
+                        splashManager.setSplashToShow("splash.strix");
+
+                    roomFlags.put(RoomFlagEnum.FIRST_STRIX_ENCOUNTERED, true);
+                }
+                break;
+            }
+        }
 
         enemyList.add(enemyInstance);
     }
@@ -289,89 +361,115 @@ public abstract class AbstractRoom {
     protected abstract void initRoom(RoomTypeEnum roomType, final WorldManager worldManager, final TextBoxManager textManager, final SplashManager splashManager, final PlayerInstance player, OrthographicCamera camera, AssetManager assetManager);
 
     /**
-     * Draws room background terrain
+     * Bakes terrain and overlay layers in static vertex arrays on the game atlas,
+     * since they never change while in the room
+     *
+     * @param assetManager
      */
-    public void drawRoomTerrain() {
+    protected void bakeTileLayers(AssetManager assetManager) {
         MapLayers mapLayers = tiledMap.getLayers();
-        TiledMapTileLayer terrainLayer = (TiledMapTileLayer) mapLayers.get(MapLayersEnum.TERRAIN_LAYER.getLayerName());
+        TextureRegion tilesetRegion = GameEntity.getAtlasRegion(assetManager, "terrain");
 
-        //Overlay layer should is required
-        Objects.requireNonNull(terrainLayer);
+        //Terrain layer is required
+        TiledMapTileLayer terrainTileLayer = (TiledMapTileLayer) mapLayers.get(MapLayersEnum.TERRAIN_LAYER.getLayerName());
+        Objects.requireNonNull(terrainTileLayer);
+        terrainLayer = new StaticTileLayer(terrainTileLayer, tilesetRegion);
 
-        tiledMapRenderer.getBatch().begin();
-        tiledMapRenderer.renderTileLayer(terrainLayer);
-        tiledMapRenderer.getBatch().end();
+        //Overlay layer is not required
+        TiledMapTileLayer overlayTileLayer = (TiledMapTileLayer) mapLayers.get(MapLayersEnum.OVERLAY_LAYER.getLayerName());
+        if (Objects.nonNull(overlayTileLayer)) {
+            overlayLayer = new StaticTileLayer(overlayTileLayer, tilesetRegion);
+        }
     }
 
     /**
-     * Draws room overlay
+     * Submits room background terrain
+     *
+     * @param queue
      */
-    public void drawRoomOverlay() {
-        MapLayers mapLayers = tiledMap.getLayers();
-        TiledMapTileLayer overlayLayer = (TiledMapTileLayer) mapLayers.get(MapLayersEnum.OVERLAY_LAYER.getLayerName());
+    public void drawRoomTerrain(final RenderQueue queue) {
+        queue.setLayer(RenderLayerEnum.TERRAIN);
+        queue.submit(terrainLayer);
+    }
 
-        //Overlay layer should not be required
+    /**
+     * Submits room overlay
+     *
+     * @param queue
+     */
+    public void drawRoomOverlay(final RenderQueue queue) {
+        //Overlay layer is not required
         if (Objects.isNull(overlayLayer)) {
             return;
         }
 
-        tiledMapRenderer.getBatch().begin();
-        tiledMapRenderer.renderTileLayer(overlayLayer);
-        tiledMapRenderer.getBatch().end();
+        queue.setLayer(RenderLayerEnum.OVERLAY);
+        queue.submit(overlayLayer);
     }
 
     /**
-     * Draws room contents
+     * Submits room contents
      *
-     * @param batch
+     * @param queue
      * @param stateTime
      */
-    public void drawRoomContents(final SpriteBatch batch, float stateTime) {
-
-        List<GameInstance> allInstance = new ArrayList<>();
-
-        allInstance.addAll(poiList);
-        allInstance.addAll(decorationList);
-        allInstance.add(player);
-        allInstance.addAll(enemyList);
+    public void drawRoomContents(final RenderQueue queue, float stateTime) {
+        queue.setLayer(RenderLayerEnum.CONTENTS);
+        renderList.draw(queue, stateTime);
+    }
 
-        // Sort by Y for depth effect. If decoration is interacted, priority is lowered
-        allInstance.sort((o1, o2) -> compareEntities(o1, o2));
+    /**
+     * Interpolates the draw positions of room contents between the last two ticks
+     *
+     * @param alpha fraction of tick elapsed since the last one
+     */
+    public void interpolateContentsPositions(float alpha) {
+        renderList.interpolatePositions(alpha);
+    }
 
-        allInstance.forEach((i) -> {
-            i.draw(batch, stateTime);
-        });
+    /**
+     * Refreshes the positions of moving contents in the spatial index. To be called after each world step
+     */
+    public void updateSpatialIndex() {
+        spatialGrid.updateDynamic();
+    }
 
+    /**
+     * Refreshes render sort keys and sorts the render list. To be called once per tick
+     */
+    protected void refreshRenderList() {
+        for (int i = 0; i < renderList.size(); i++) {
+            renderList.setKey(i, computeRenderSortKey(renderList.get(i)));
+        }
+        renderList.sort();
     }
 
-    // Compares two GameInstances by y depth
-    protected int compareEntities(GameInstance o1, GameInstance o2) {
+    /**
+     * Computes the render sort key of an instance: depth band first, then Y
+     * quantized to pixels, so that instances with higher Y are drawn first
+     *
+     * @param instance
+     * @return the sort key, lower is drawn first
+     */
+    protected int computeRenderSortKey(GameInstance instance) {
 
-        //Special conditions to place object always on higher depth, usually
+        //Special conditions to place object always on lower or higher depth, usually
         //for avoiding that objects laying on the ground cover taller ones
-        if ((o2 instanceof Hurtable && ((Hurtable) o2).isDead()) ||
-                (o1 instanceof StrixInstance && ((StrixInstance) o1).isAttachedToPlayer()) ||
-                (o2 instanceof DecorationInstance && DecorationsEnum.ALLY_CORPSE_1.equals(((DecorationInstance) o2).getType())) ||
-                (o2 instanceof DecorationInstance && DecorationsEnum.ALLY_CORPSE_2.equals(((DecorationInstance) o2).getType())) ||
-                (o2 instanceof DecorationInstance && ((DecorationInstance) o2).getInteracted()) ||
-                (o2 instanceof POIInstance && POIEnum.SKELETON.equals(((POIInstance) o2).getType()))) {
-            return 1;
-        }
-
-        if ((o1 instanceof Hurtable && ((Hurtable) o1).isDead()) ||
-                (o2 instanceof StrixInstance && ((StrixInstance) o2).isAttachedToPlayer())) {
-            return -1;
+        int band = DEPTH_BAND_DEFAULT;
+        if ((instance instanceof Hurtable && ((Hurtable) instance).isDead()) ||
+                (instance instanceof DecorationInstance && DecorationsEnum.ALLY_CORPSE_1.equals(((DecorationInstance) instance).getType())) ||
+                (instance instanceof DecorationInstance && DecorationsEnum.ALLY_CORPSE_2.equals(((DecorationInstance) instance).getType())) ||
+                (instance instanceof DecorationInstance && ((DecorationInstance) instance).getInteracted()) ||
+                (instance instanceof POIInstance && POIEnum.SKELETON.equals(((POIInstance) instance).getType()))) {
+            band = DEPTH_BAND_GROUND;
+        } else if (instance instanceof StrixInstance && ((StrixInstance) instance).isAttachedToPlayer()) {
+            band = DEPTH_BAND_TOP;
         }
 
         //or else just sort by Y axis
-        if ((o1.getBody().getPosition().y < o2.getBody().getPosition().y)) {
-            return 1;
-        } else if (o1.getBody().getPosition().y > o2.getBody().getPosition().y) {
-            return -1;
-        }
+        final int quantizedY = MathUtils.clamp(MathUtils.floor(instance.getY()) + DEPTH_Y_OFFSET, 0, DEPTH_Y_MASK);
 
-
-        return 0;
+        return (band << DEPTH_BAND_SHIFT) | (DEPTH_Y_MASK - quantizedY);
     }
 
     /**
@@ -379,12 +477,11 @@ public abstract class AbstractRoom {
      */
     public void dispose() {
         textManager.removeAllBoxes();
-        tiledMap.dispose();
+        // Tiled map is only borrowed, it is given back to the cache by RoomsManager
         enemyList.forEach((ene) -> ene.dispose());
         decorationList.forEach((deco) -> deco.dispose());
         poiList.forEach((poi) -> poi.dispose());
-        wallList.forEach((wall) -> wall.dispose());
-        emergedAreaList.forEach((emergedArea) -> emergedArea.dispose());
+        roomGeometry.dispose();
     }
 
     public RoomTypeEnum getRoomType() {
@@ -392,14 +489,24 @@ public abstract class AbstractRoom {
     }
 
     public void doRoomContentsLogic(float stateTime) {
+        // Water is under the player feet
+        player.setSubmerged(terrainGrid.isWater(player.getX(), player.getY()));
+
         // Do Player logic
         if (!player.isDead())
             player.doLogic(stateTime);
 
-        // Do enemy logic
+        // Path towards the player is recomputed only when it changes cell
+        if (!enemyList.isEmpty()) {
+            flowField.update(spatialGrid.getX(player), spatialGrid.getY(player));
+        }
+
+        // Do enemy logic, skipping the ones far from the player
         enemyList.forEach((ene) -> {
 
-            ene.doLogic(stateTime);
+            if (!ene.updateDormancy(player)) {
+                ene.doLogic(stateTime);
+            }
 
             //Changing music based on enemy behaviour and number
             if (enemyList.size() == 1 && ((Hurtable) ene).isDead()) {
@@ -410,6 +517,7 @@ public abstract class AbstractRoom {
             }
         });
 
+        refreshRenderList();
     }
 
     /**
@@ -0,0 +1,41 @@
+package faust.lhipgame.game.rooms;
+
+/**
+ * Position of a room in the main world, packed in a single immutable int so that it
+ * can be used as a key without boxing. Both coordinates must be in [0, MAX_COORD]
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public final class RoomCoord {
+
+    public static final int MAX_COORD = 0xFFFF;
+    private static final int X_SHIFT = 16;
+
+    private RoomCoord() {
+    }
+
+    /**
+     * @return the packed position
+     */
+    public static int pack(int x, int y) {
+        if (x < 0 || x > MAX_COORD || y < 0 || y > MAX_COORD) {
+            throw new IllegalArgumentException("Invalid room position " + x + "," + y);
+        }
+        return (x << X_SHIFT) | y;
+    }
+
+    public static int getX(int coord) {
+        return coord >>> X_SHIFT;
+    }
+
+    public static int getY(int coord) {
+        return coord & MAX_COORD;
+    }
+
+    /**
+     * @return index of the position in a flat row major array of rooms
+     */
+    public static int toIndex(int coord, int worldWidth) {
+        return getY(coord) * worldWidth + getX(coord);
+    }
+}
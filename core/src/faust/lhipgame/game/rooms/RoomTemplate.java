@@ -0,0 +1,371 @@
+package faust.lhipgame.game.rooms;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.XmlReader;
+import faust.lhipgame.game.echoes.enums.EchoesActorType;
+import faust.lhipgame.game.gameentities.enums.DecorationsEnum;
+import faust.lhipgame.game.gameentities.enums.POIEnum;
+import faust.lhipgame.game.rooms.enums.MapLayersEnum;
+import faust.lhipgame.game.rooms.enums.MapObjNameEnum;
+
+import java.util.Objects;
+
+/**
+ * Immutable room contents, compiled once from the object layer of a Tiled map file.
+ * Coordinates are already converted in the y-up world space, the same way the
+ * TmxMapLoader does. Compiling does not need the GL thread, so it can be done
+ * in background.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class RoomTemplate {
+
+    /**
+     * Enemy kinds. Default enemy is chosen by room flags on instantiation
+     */
+    public static final int ENEMY_DEFAULT = 0;
+    public static final int ENEMY_HIVE = 1;
+    public static final int ENEMY_SPITTER = 2;
+
+    public static final int NO_ECHO_TRIGGER = -1;
+
+    private final String fileName;
+
+    private final POIEnum[] poiTypes;
+    private final float[] poiPositions; // x,y pairs
+
+    private final DecorationsEnum[] decorationTypes;
+    private final float[] decorationPositions; // x,y pairs
+
+    private final int[] enemyKinds;
+    private final float[] enemyPositions; // x,y pairs
+
+    private final float[] wallRects; // x,y,width,height
+    private final float[][] wallOutlines; // x,y pairs of each loop around the union of walls
+
+    private final float[] emergedPositions; // x,y pairs
+    private final float[][] emergedVertices; // local vertices of each polygon
+
+    private final EchoesActorType[] echoActorTypes;
+    private final float[] echoActorPositions; // x,y pairs
+
+    private final int echoTriggerPoi;
+    private final int echoTriggerDecoration;
+
+    private RoomTemplate(String fileName, Builder builder) {
+        this.fileName = fileName;
+        this.poiTypes = builder.poiTypes.toArray(POIEnum.class);
+        this.poiPositions = builder.poiPositions.toArray();
+        this.decorationTypes = builder.decorationTypes.toArray(DecorationsEnum.class);
+        this.decorationPositions = builder.decorationPositions.toArray();
+        this.enemyKinds = builder.enemyKinds.toArray();
+        this.enemyPositions = builder.enemyPositions.toArray();
+        this.wallRects = builder.wallRects.toArray();
+        this.wallOutlines = WallOutlineBuilder.build(this.wallRects);
+        this.emergedPositions = builder.emergedPositions.toArray();
+        this.emergedVertices = builder.emergedVertices.toArray(float[].class);
+        this.echoActorTypes = builder.echoActorTypes.toArray(EchoesActorType.class);
+        this.echoActorPositions = builder.echoActorPositions.toArray();
+        this.echoTriggerPoi = builder.echoTriggerPoi;
+        this.echoTriggerDecoration = builder.echoTriggerDecoration;
+    }
+
+    /**
+     * Temporary growable storage used while compiling
+     */
+    private static class Builder {
+        private final Array<POIEnum> poiTypes = new Array<>();
+        private final FloatArray poiPositions = new FloatArray();
+        private final Array<DecorationsEnum> decorationTypes = new Array<>();
+        private final FloatArray decorationPositions = new FloatArray();
+        private final IntArray enemyKinds = new IntArray();
+        private final FloatArray enemyPositions = new FloatArray();
+        private final FloatArray wallRects = new FloatArray();
+        private final FloatArray emergedPositions = new FloatArray();
+        private final Array<float[]> emergedVertices = new Array<>();
+        private final Array<EchoesActorType> echoActorTypes = new Array<>();
+        private final FloatArray echoActorPositions = new FloatArray();
+        private int echoTriggerPoi = NO_ECHO_TRIGGER;
+        private int echoTriggerDecoration = NO_ECHO_TRIGGER;
+
+        private void setEchoTrigger(boolean isPoi, int index, String fileName) {
+            if (echoTriggerPoi != NO_ECHO_TRIGGER || echoTriggerDecoration != NO_ECHO_TRIGGER) {
+                throw new GdxRuntimeException("More than one echo trigger in the room " + fileName);
+            }
+            if (isPoi) {
+                echoTriggerPoi = index;
+            } else {
+                echoTriggerDecoration = index;
+            }
+        }
+    }
+
+    /**
+     * Compiles the template of a Tiled map file. Thread safe
+     *
+     * @param fileName of the map
+     * @param mapFile  handle of the map
+     * @return the compiled template
+     */
+    public static RoomTemplate compile(final String fileName, final FileHandle mapFile) {
+        Objects.requireNonNull(fileName);
+        Objects.requireNonNull(mapFile);
+
+        final XmlReader.Element root = new XmlReader().parse(mapFile);
+        final float mapHeightInPixels = root.getIntAttribute("height", 0) * root.getIntAttribute("tileheight", 0);
+        final Builder builder = new Builder();
+
+        for (XmlReader.Element group : root.getChildrenByName("objectgroup")) {
+            if (!MapLayersEnum.OBJECT_LAYER.getLayerName().equals(group.getAttribute("name", null))) {
+                continue;
+            }
+
+            for (XmlReader.Element object : group.getChildrenByName("object")) {
+                compileObject(fileName, object, mapHeightInPixels, builder);
+            }
+        }
+
+        return new RoomTemplate(fileName, builder);
+    }
+
+    private static void compileObject(String fileName, XmlReader.Element object, float mapHeightInPixels, Builder builder) {
+        final MapObjNameEnum objName = getObjName(object.getAttribute("name", null));
+        if (Objects.isNull(objName)) {
+            return;
+        }
+
+        // Tiled is y-down, convert like TmxMapLoader
+        final float x = object.getFloatAttribute("x", 0);
+        final float yTop = mapHeightInPixels - object.getFloatAttribute("y", 0);
+        final float width = object.getFloatAttribute("width", 0);
+        final float height = object.getFloatAttribute("height", 0);
+        final float y = yTop - height;
+
+        final String type = object.getAttribute("type", null);
+        final boolean isEchoTrigger = hasProperty(object, "isEchoTrigger");
+
+        switch (objName) {
+            case POI: {
+                final POIEnum poiType = POIEnum.getFromString(type);
+                Objects.requireNonNull(poiType);
+
+                if (isEchoTrigger) {
+                    builder.setEchoTrigger(true, builder.poiTypes.size, fileName);
+                }
+                builder.poiTypes.add(poiType);
+                builder.poiPositions.add(x, y);
+                break;
+            }
+            case DECO: {
+                final DecorationsEnum decoType = DecorationsEnum.getFromString(type);
+                Objects.requireNonNull(decoType);
+
+                if (isEchoTrigger) {
+                    builder.setEchoTrigger(false, builder.decorationTypes.size, fileName);
+                }
+                builder.decorationTypes.add(decoType);
+                builder.decorationPositions.add(x, y);
+                break;
+            }
+            case ENEMY: {
+                //TODO Improve
+                int kind = ENEMY_DEFAULT;
+                if ("HIVE".equals(type)) {
+                    kind = ENEMY_HIVE;
+                } else if ("SPITTER".equals(type)) {
+                    kind = ENEMY_SPITTER;
+                }
+                builder.enemyKinds.add(kind);
+                builder.enemyPositions.add(x, y);
+                break;
+            }
+            case WALL: {
+                builder.wallRects.add(x, y, width, height);
+                break;
+            }
+            case EMERGED: {
+                final XmlReader.Element polygon = object.getChildByName("polygon");
+                if (Objects.isNull(polygon)) {
+                    throw new GdxRuntimeException("EMERGED object without polygon in " + fileName);
+                }
+
+                final String[] points = polygon.getAttribute("points").split(" ");
+                final float[] vertices = new float[points.length * 2];
+                for (int i = 0; i < points.length; i++) {
+                    final String[] point = points[i].split(",");
+                    vertices[i * 2] = Float.parseFloat(point[0]);
+                    vertices[i * 2 + 1] = -Float.parseFloat(point[1]);
+                }
+                builder.emergedPositions.add(x, yTop);
+                builder.emergedVertices.add(vertices);
+                break;
+            }
+            case ECHO_ACTOR: {
+                final EchoesActorType echoesActorType = EchoesActorType.getFromString(type);
+                Objects.requireNonNull(echoesActorType);
+
+                builder.echoActorTypes.add(echoesActorType);
+                builder.echoActorPositions.add(x, y);
+                break;
+            }
+        }
+    }
+
+    private static MapObjNameEnum getObjName(String name) {
+        for (MapObjNameEnum e : MapObjNameEnum.values()) {
+            if (e.name().equals(name)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasProperty(XmlReader.Element object, String propertyName) {
+        final XmlReader.Element properties = object.getChildByName("properties");
+        if (Objects.isNull(properties)) {
+            return false;
+        }
+        for (XmlReader.Element property : properties.getChildrenByName("property")) {
+            if (propertyName.equals(property.getAttribute("name", null))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getPoiCount() {
+        return poiTypes.length;
+    }
+
+    public POIEnum getPoiType(int index) {
+        return poiTypes[index];
+    }
+
+    public float getPoiX(int index) {
+        return poiPositions[index * 2];
+    }
+
+    public float getPoiY(int index) {
+        return poiPositions[index * 2 + 1];
+    }
+
+    public int getDecorationCount() {
+        return decorationTypes.length;
+    }
+
+    public DecorationsEnum getDecorationType(int index) {
+        return decorationTypes[index];
+    }
+
+    public float getDecorationX(int index) {
+        return decorationPositions[index * 2];
+    }
+
+    public float getDecorationY(int index) {
+        return decorationPositions[index * 2 + 1];
+    }
+
+    public int getEnemyCount() {
+        return enemyKinds.length;
+    }
+
+    public int getEnemyKind(int index) {
+        return enemyKinds[index];
+    }
+
+    public float getEnemyX(int index) {
+        return enemyPositions[index * 2];
+    }
+
+    public float getEnemyY(int index) {
+        return enemyPositions[index * 2 + 1];
+    }
+
+    public int getWallCount() {
+        return wallRects.length / 4;
+    }
+
+    public float getWallX(int index) {
+        return wallRects[index * 4];
+    }
+
+    public float getWallY(int index) {
+        return wallRects[index * 4 + 1];
+    }
+
+    public float getWallWidth(int index) {
+        return wallRects[index * 4 + 2];
+    }
+
+    public float getWallHeight(int index) {
+        return wallRects[index * 4 + 3];
+    }
+
+    public int getWallOutlineCount() {
+        return wallOutlines.length;
+    }
+
+    /**
+     * @return x,y pairs of a closed loop around merged walls. Must not be modified
+     */
+    public float[] getWallOutline(int index) {
+        return wallOutlines[index];
+    }
+
+    public int getEmergedCount() {
+        return emergedVertices.length;
+    }
+
+    public float getEmergedX(int index) {
+        return emergedPositions[index * 2];
+    }
+
+    public float getEmergedY(int index) {
+        return emergedPositions[index * 2 + 1];
+    }
+
+    /**
+     * @return local vertices of the emerged area polygon. Must not be modified
+     */
+    public float[] getEmergedVertices(int index) {
+        return emergedVertices[index];
+    }
+
+    public int getEchoActorCount() {
+        return echoActorTypes.length;
+    }
+
+    public EchoesActorType getEchoActorType(int index) {
+        return echoActorTypes[index];
+    }
+
+    public float getEchoActorX(int index) {
+        return echoActorPositions[index * 2];
+    }
+
+    public float getEchoActorY(int index) {
+        return echoActorPositions[index * 2 + 1];
+    }
+
+    /**
+     * @return index of the POI which triggers the echo, or NO_ECHO_TRIGGER
+     */
+    public int getEchoTriggerPoi() {
+        return echoTriggerPoi;
+    }
+
+    /**
+     * @return index of the Decoration which triggers the echo, or NO_ECHO_TRIGGER
+     */
+    public int getEchoTriggerDecoration() {
+        return echoTriggerDecoration;
+    }
+}
@@ -0,0 +1,251 @@
+package faust.lhipgame.game.rooms;
+
+import com.badlogic.gdx.math.MathUtils;
+import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.instances.GameInstance;
+import faust.lhipgame.game.rooms.enums.SpatialKindEnum;
+
+import java.util.Objects;
+
+/**
+ * Uniform grid of tile sized cells over the room, used for proximity queries between
+ * instances. Body positions are cached on insertion (static instances) or refreshed
+ * once per step (dynamic instances), so queries never read Box2D positions and
+ * compare squared distances only. Instances outside the room are kept in the border cells.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class SpatialGrid {
+
+    private static final int CELL_SIZE = 16;
+    private static final int COLUMNS = (LHIPGame.GAME_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+    private static final int ROWS = (LHIPGame.GAME_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NONE = -1;
+
+    // First entry of each cell, entries of the same cell are linked
+    private final int[] cellHeads = new int[COLUMNS * ROWS];
+
+    // Entries
+    private GameInstance[] instances = new GameInstance[INITIAL_CAPACITY];
+    private float[] xs = new float[INITIAL_CAPACITY];
+    private float[] ys = new float[INITIAL_CAPACITY];
+    private int[] kinds = new int[INITIAL_CAPACITY];
+    private boolean[] dynamic = new boolean[INITIAL_CAPACITY];
+    private int[] cells = new int[INITIAL_CAPACITY];
+    private int[] nextInCell = new int[INITIAL_CAPACITY];
+    private int[] previousInCell = new int[INITIAL_CAPACITY];
+    private int count = 0;
+
+    public SpatialGrid() {
+        for (int i = 0; i < cellHeads.length; i++) {
+            cellHeads[i] = NONE;
+        }
+    }
+
+    /**
+     * Indexes an instance that never moves. Its body must be already in the world
+     *
+     * @param instance
+     * @param kind
+     */
+    public void insertStatic(final GameInstance instance, final SpatialKindEnum kind) {
+        insert(instance, kind, false);
+    }
+
+    /**
+     * Indexes an instance whose position is refreshed by updateDynamic. Its body must be already in the world
+     *
+     * @param instance
+     * @param kind
+     */
+    public void insertDynamic(final GameInstance instance, final SpatialKindEnum kind) {
+        insert(instance, kind, true);
+    }
+
+    private void insert(final GameInstance instance, final SpatialKindEnum kind, boolean isDynamic) {
+        Objects.requireNonNull(instance);
+        Objects.requireNonNull(instance.getBody());
+        Objects.requireNonNull(kind);
+
+        if (count == instances.length) {
+            grow();
+        }
+
+        final int index = count++;
+        instances[index] = instance;
+        xs[index] = instance.getX();
+        ys[index] = instance.getY();
+        kinds[index] = kind.ordinal();
+        dynamic[index] = isDynamic;
+        link(index, cellOf(xs[index], ys[index]));
+
+        instance.setSpatialEntry(this, index);
+    }
+
+    /**
+     * Refreshes the cached positions of dynamic instances. To be called after each world step
+     */
+    public void updateDynamic() {
+        for (int i = 0; i < count; i++) {
+            if (!dynamic[i]) {
+                continue;
+            }
+
+            // Positions come from the transform snapshot of the last step
+            xs[i] = instances[i].getX();
+            ys[i] = instances[i].getY();
+
+            final int cell = cellOf(xs[i], ys[i]);
+            if (cell != cells[i]) {
+                unlink(i);
+                link(i, cell);
+            }
+        }
+    }
+
+    /**
+     * Finds the nearest instance of a kind within a distance from another indexed instance
+     *
+     * @param from        indexed instance, never returned
+     * @param maxDistance
+     * @param kind
+     * @return the nearest instance, null if none is near enough
+     */
+    public GameInstance findNearest(final GameInstance from, float maxDistance, final SpatialKindEnum kind) {
+        final int fromIndex = indexOf(from);
+        final float x = xs[fromIndex];
+        final float y = ys[fromIndex];
+        final int kindOrdinal = kind.ordinal();
+
+        final int minColumn = columnOf(x - maxDistance);
+        final int maxColumn = columnOf(x + maxDistance);
+        final int minRow = rowOf(y - maxDistance);
+        final int maxRow = rowOf(y + maxDistance);
+
+        int nearest = NONE;
+        float nearestDistance2 = maxDistance * maxDistance;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (int i = cellHeads[row * COLUMNS + column]; i != NONE; i = nextInCell[i]) {
+                    if (i == fromIndex || kinds[i] != kindOrdinal) {
+                        continue;
+                    }
+
+                    final float distance2 = distance2(i, x, y);
+                    // Lower index wins on ties, as in insertion order
+                    if (distance2 < nearestDistance2 || (distance2 == nearestDistance2 && (nearest == NONE || i < nearest))) {
+                        nearest = i;
+                        nearestDistance2 = distance2;
+                    }
+                }
+            }
+        }
+
+        return nearest == NONE ? null : instances[nearest];
+    }
+
+    /**
+     * @return true if the two indexed instances are not farther than distance
+     */
+    public boolean isWithinDistance(final GameInstance first, final GameInstance second, float distance) {
+        final int secondIndex = indexOf(second);
+        return distance2(indexOf(first), xs[secondIndex], ys[secondIndex]) <= distance * distance;
+    }
+
+    /**
+     * @return x of the indexed instance, as cached after the last step
+     */
+    public float getX(final GameInstance instance) {
+        return xs[indexOf(instance)];
+    }
+
+    /**
+     * @return y of the indexed instance, as cached after the last step
+     */
+    public float getY(final GameInstance instance) {
+        return ys[indexOf(instance)];
+    }
+
+    /**
+     * @return true if the instance is indexed in this grid
+     */
+    public boolean contains(final GameInstance instance) {
+        return Objects.nonNull(instance) && instance.getSpatialGrid() == this;
+    }
+
+    private int indexOf(final GameInstance instance) {
+        if (!contains(instance)) {
+            throw new IllegalArgumentException("Instance " + instance + " is not indexed in this grid");
+        }
+        return instance.getSpatialIndex();
+    }
+
+    private float distance2(int index, float x, float y) {
+        final float dx = xs[index] - x;
+        final float dy = ys[index] - y;
+        return dx * dx + dy * dy;
+    }
+
+    private void link(int index, int cell) {
+        cells[index] = cell;
+        previousInCell[index] = NONE;
+        nextInCell[index] = cellHeads[cell];
+        if (cellHeads[cell] != NONE) {
+            previousInCell[cellHeads[cell]] = index;
+        }
+        cellHeads[cell] = index;
+    }
+
+    private void unlink(int index) {
+        if (previousInCell[index] == NONE) {
+            cellHeads[cells[index]] = nextInCell[index];
+        } else {
+            nextInCell[previousInCell[index]] = nextInCell[index];
+        }
+        if (nextInCell[index] != NONE) {
+            previousInCell[nextInCell[index]] = previousInCell[index];
+        }
+    }
+
+    private static int cellOf(float x, float y) {
+        return rowOf(y) * COLUMNS + columnOf(x);
+    }
+
+    private static int columnOf(float x) {
+        return MathUtils.clamp(MathUtils.floor(x / CELL_SIZE), 0, COLUMNS - 1);
+    }
+
+    private static int rowOf(float y) {
+        return MathUtils.clamp(MathUtils.floor(y / CELL_SIZE), 0, ROWS - 1);
+    }
+
+    private void grow() {
+        final int capacity = instances.length * 2;
+        final GameInstance[] newInstances = new GameInstance[capacity];
+        System.arraycopy(instances, 0, newInstances, 0, count);
+        instances = newInstances;
+        xs = copyOf(xs, capacity);
+        ys = copyOf(ys, capacity);
+        kinds = copyOf(kinds, capacity);
+        cells = copyOf(cells, capacity);
+        nextInCell = copyOf(nextInCell, capacity);
+        previousInCell = copyOf(previousInCell, capacity);
+        final boolean[] newDynamic = new boolean[capacity];
+        System.arraycopy(dynamic, 0, newDynamic, 0, count);
+        dynamic = newDynamic;
+    }
+
+    private float[] copyOf(float[] array, int capacity) {
+        final float[] copy = new float[capacity];
+        System.arraycopy(array, 0, copy, 0, count);
+        return copy;
+    }
+
+    private int[] copyOf(int[] array, int capacity) {
+        final int[] copy = new int[capacity];
+        System.arraycopy(array, 0, copy, 0, count);
+        return copy;
+    }
+}
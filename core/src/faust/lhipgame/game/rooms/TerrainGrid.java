@@ -0,0 +1,100 @@
+package faust.lhipgame.game.rooms;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.rooms.enums.TerrainEnum;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Terrain of a room sampled on a grid finer than tiles, built once from the room template.
+ * In rooms with emerged areas everything outside them is water, walls are solid.
+ * Looking up the terrain under a position is a single array access, no sensor needed.
+ * Positions outside the room read the nearest border cell.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class TerrainGrid {
+
+    private static final int CELL_SIZE = 4;
+    private static final int COLUMNS = (LHIPGame.GAME_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+    private static final int ROWS = (LHIPGame.GAME_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+
+    private final TerrainEnum[] cells = new TerrainEnum[COLUMNS * ROWS];
+
+    public TerrainGrid() {
+        Arrays.fill(cells, TerrainEnum.GROUND);
+    }
+
+    /**
+     * Samples the terrain of a room in the center of each cell
+     *
+     * @param roomTemplate
+     */
+    public void build(final RoomTemplate roomTemplate) {
+        Objects.requireNonNull(roomTemplate);
+
+        final boolean hasWater = roomTemplate.getEmergedCount() > 0;
+        for (int i = 0; i < cells.length; i++) {
+            final float centerX = getCenterX(i);
+            final float centerY = getCenterY(i);
+
+            if (isInWall(roomTemplate, centerX, centerY)) {
+                cells[i] = TerrainEnum.SOLID;
+            } else if (hasWater && !isInEmerged(roomTemplate, centerX, centerY)) {
+                cells[i] = TerrainEnum.WATER;
+            } else {
+                cells[i] = TerrainEnum.GROUND;
+            }
+        }
+    }
+
+    /**
+     * @return the terrain in this position
+     */
+    public TerrainEnum getTerrain(float x, float y) {
+        final int column = MathUtils.clamp(MathUtils.floor(x / CELL_SIZE), 0, COLUMNS - 1);
+        final int row = MathUtils.clamp(MathUtils.floor(y / CELL_SIZE), 0, ROWS - 1);
+        return cells[row * COLUMNS + column];
+    }
+
+    /**
+     * @return true if the terrain in this position is water
+     */
+    public boolean isWater(float x, float y) {
+        return TerrainEnum.WATER.equals(getTerrain(x, y));
+    }
+
+    private static boolean isInWall(RoomTemplate roomTemplate, float x, float y) {
+        for (int i = 0; i < roomTemplate.getWallCount(); i++) {
+            final float wallX = roomTemplate.getWallX(i);
+            final float wallY = roomTemplate.getWallY(i);
+            if (x >= wallX && x <= wallX + roomTemplate.getWallWidth(i) &&
+                    y >= wallY && y <= wallY + roomTemplate.getWallHeight(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInEmerged(RoomTemplate roomTemplate, float x, float y) {
+        for (int i = 0; i < roomTemplate.getEmergedCount(); i++) {
+            final float[] vertices = roomTemplate.getEmergedVertices(i);
+            if (Intersector.isPointInPolygon(vertices, 0, vertices.length,
+                    x - roomTemplate.getEmergedX(i), y - roomTemplate.getEmergedY(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static float getCenterX(int cell) {
+        return (cell % COLUMNS) * CELL_SIZE + CELL_SIZE / 2f;
+    }
+
+    private static float getCenterY(int cell) {
+        return (cell / COLUMNS) * CELL_SIZE + CELL_SIZE / 2f;
+    }
+}
@@ -0,0 +1,205 @@
+package faust.lhipgame.game.rooms;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Merges the wall rectangles of a room into the outlines of their union, as closed loops
+ * of vertices ready for chain shapes. Edges shared or covered by overlapping rectangles
+ * disappear, and collinear vertices are dropped. Rectangles are rasterized on the grid of
+ * their own edge coordinates, so they don't need to be aligned to tiles.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+final class WallOutlineBuilder {
+
+    // Coordinates nearer than this are considered the same, Tiled objects are often slightly misplaced
+    private static final float SNAP_DISTANCE = 0.01f;
+    private static final int NONE = -1;
+
+    private WallOutlineBuilder() {
+    }
+
+    /**
+     * @param wallRects x,y,width,height of each wall
+     * @return x,y pairs of the vertices of each outline, counterclockwise for outer ones
+     */
+    static float[][] build(float[] wallRects) {
+        final int count = wallRects.length / 4;
+        if (count == 0) {
+            return new float[0][];
+        }
+
+        final float[] xs = uniqueSorted(wallRects, 0, count);
+        final float[] ys = uniqueSorted(wallRects, 1, count);
+        final int columns = xs.length - 1;
+        final int rows = ys.length - 1;
+
+        // Rasterize walls on the grid of their edges
+        final boolean[] filled = new boolean[columns * rows];
+        for (int i = 0; i < count; i++) {
+            final int minColumn = nearestIndex(xs, wallRects[i * 4]);
+            final int maxColumn = nearestIndex(xs, wallRects[i * 4] + wallRects[i * 4 + 2]);
+            final int minRow = nearestIndex(ys, wallRects[i * 4 + 1]);
+            final int maxRow = nearestIndex(ys, wallRects[i * 4 + 1] + wallRects[i * 4 + 3]);
+            for (int row = minRow; row < maxRow; row++) {
+                for (int column = minColumn; column < maxColumn; column++) {
+                    filled[row * columns + column] = true;
+                }
+            }
+        }
+
+        // Boundary edges between filled and empty cells, with the filled cell on their left.
+        // A grid vertex has at most two outgoing edges, when two filled cells touch only by a corner
+        final int vertexColumns = columns + 1;
+        final int[] firstOut = new int[vertexColumns * (rows + 1)];
+        final int[] secondOut = new int[firstOut.length];
+        Arrays.fill(firstOut, NONE);
+        Arrays.fill(secondOut, NONE);
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (!isFilled(filled, columns, rows, column, row)) {
+                    continue;
+                }
+                final int bottomLeft = row * vertexColumns + column;
+                final int bottomRight = bottomLeft + 1;
+                final int topLeft = bottomLeft + vertexColumns;
+                final int topRight = topLeft + 1;
+
+                if (!isFilled(filled, columns, rows, column, row - 1)) {
+                    addEdge(firstOut, secondOut, bottomLeft, bottomRight);
+                }
+                if (!isFilled(filled, columns, rows, column + 1, row)) {
+                    addEdge(firstOut, secondOut, bottomRight, topRight);
+                }
+                if (!isFilled(filled, columns, rows, column, row + 1)) {
+                    addEdge(firstOut, secondOut, topRight, topLeft);
+                }
+                if (!isFilled(filled, columns, rows, column - 1, row)) {
+                    addEdge(firstOut, secondOut, topLeft, bottomLeft);
+                }
+            }
+        }
+
+        // Trace the loops
+        final Array<float[]> outlines = new Array<>();
+        final IntArray loop = new IntArray();
+        for (int start = 0; start < firstOut.length; start++) {
+            while (firstOut[start] != NONE) {
+                loop.clear();
+                int previous = NONE;
+                int current = start;
+                do {
+                    loop.add(current);
+                    final int next = takeEdge(firstOut, secondOut, vertexColumns, previous, current);
+                    previous = current;
+                    current = next;
+                } while (current != start);
+
+                outlines.add(toVertices(loop, vertexColumns, xs, ys));
+            }
+        }
+
+        return outlines.toArray(float[].class);
+    }
+
+    private static boolean isFilled(boolean[] filled, int columns, int rows, int column, int row) {
+        return column >= 0 && row >= 0 && column < columns && row < rows && filled[row * columns + column];
+    }
+
+    private static void addEdge(int[] firstOut, int[] secondOut, int from, int to) {
+        if (firstOut[from] == NONE) {
+            firstOut[from] = to;
+        } else {
+            secondOut[from] = to;
+        }
+    }
+
+    /**
+     * Removes and returns an outgoing edge of a vertex. Where two loops touch by a corner
+     * the edge turning left is taken, so that each loop stays on its own cell
+     */
+    private static int takeEdge(int[] firstOut, int[] secondOut, int vertexColumns, int previous, int current) {
+        int next = firstOut[current];
+        if (secondOut[current] != NONE && previous != NONE &&
+                turn(previous, current, secondOut[current], vertexColumns) > 0) {
+            next = secondOut[current];
+            secondOut[current] = NONE;
+        } else {
+            firstOut[current] = secondOut[current];
+            secondOut[current] = NONE;
+        }
+        return next;
+    }
+
+    /**
+     * @return positive if going from previous to current to next turns left
+     */
+    private static int turn(int previous, int current, int next, int vertexColumns) {
+        final int inX = current % vertexColumns - previous % vertexColumns;
+        final int inY = current / vertexColumns - previous / vertexColumns;
+        final int outX = next % vertexColumns - current % vertexColumns;
+        final int outY = next / vertexColumns - current / vertexColumns;
+        return Integer.signum(inX) * Integer.signum(outY) - Integer.signum(inY) * Integer.signum(outX);
+    }
+
+    /**
+     * Converts a loop of grid vertices in coordinates, skipping the ones between collinear edges
+     */
+    private static float[] toVertices(IntArray loop, int vertexColumns, float[] xs, float[] ys) {
+        final FloatArray vertices = new FloatArray(loop.size * 2);
+        for (int i = 0; i < loop.size; i++) {
+            final int previous = loop.get((i + loop.size - 1) % loop.size);
+            final int current = loop.get(i);
+            final int next = loop.get((i + 1) % loop.size);
+            if (turn(previous, current, next, vertexColumns) == 0) {
+                continue;
+            }
+            vertices.add(xs[current % vertexColumns], ys[current / vertexColumns]);
+        }
+        return vertices.toArray();
+    }
+
+    /**
+     * @return sorted start and end coordinates of the walls on an axis, without duplicates
+     */
+    private static float[] uniqueSorted(float[] wallRects, int axis, int count) {
+        final float[] values = new float[count * 2];
+        for (int i = 0; i < count; i++) {
+            values[i * 2] = wallRects[i * 4 + axis];
+            values[i * 2 + 1] = wallRects[i * 4 + axis] + wallRects[i * 4 + axis + 2];
+        }
+        Arrays.sort(values);
+
+        final FloatArray unique = new FloatArray(values.length);
+        for (float value : values) {
+            if (unique.size == 0 || value - unique.peek() > SNAP_DISTANCE) {
+                unique.add(value);
+            }
+        }
+        return unique.toArray();
+    }
+
+    /**
+     * @return index of the coordinate nearest to value
+     */
+    private static int nearestIndex(float[] coordinates, float value) {
+        int index = Arrays.binarySearch(coordinates, value);
+        if (index >= 0) {
+            return index;
+        }
+
+        index = -index - 1;
+        if (index == 0) {
+            return 0;
+        }
+        if (index == coordinates.length || value - coordinates[index - 1] < coordinates[index] - value) {
+            return index - 1;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,68 @@
+package faust.lhipgame.game.rooms.areas;
+
+import com.badlogic.gdx.physics.box2d.*;
+import faust.lhipgame.game.rooms.RoomTemplate;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.manager.CollisionMatrix;
+
+import java.util.Objects;
+
+/**
+ * Static invisible walls of a room, on a single body with a chain loop fixture around
+ * each group of merged walls.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class RoomGeometry {
+
+    private Body body;
+    private final RoomTemplate roomTemplate;
+
+    public RoomGeometry(final RoomTemplate roomTemplate) {
+        Objects.requireNonNull(roomTemplate);
+        this.roomTemplate = roomTemplate;
+    }
+
+    public Body getBody() {
+        return body;
+    }
+
+    public void dispose() {
+        this.body.getFixtureList().forEach(f ->
+                this.body.destroyFixture(f));
+    }
+
+    public void createBody(final World world) {
+        Objects.requireNonNull(world);
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        bodyDef.fixedRotation = true;
+
+        // Associate body to world
+        body = world.createBody(bodyDef);
+        body.setUserData(this);
+
+        for (int i = 0; i < roomTemplate.getWallOutlineCount(); i++) {
+            createWallFixture(roomTemplate.getWallOutline(i));
+        }
+    }
+
+    private void createWallFixture(float[] outline) {
+        ChainShape shape = new ChainShape();
+        shape.createLoop(outline);
+
+        // Define Fixture
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1;
+        fixtureDef.friction = 1;
+        fixtureDef.isSensor = false;
+        CollisionMatrix.apply(fixtureDef.filter, CollisionCategoryEnum.WALL);
+
+        body.createFixture(fixtureDef).setUserData(CollisionTagEnum.WALL);
+
+        shape.dispose();
+    }
+}
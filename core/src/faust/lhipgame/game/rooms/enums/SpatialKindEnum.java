@@ -0,0 +1,13 @@
+package faust.lhipgame.game.rooms.enums;
+
+/**
+ * Kinds of instances indexed in a room SpatialGrid
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public enum SpatialKindEnum {
+    PLAYER,
+    POI,
+    DECORATION,
+    ENEMY
+}
@@ -0,0 +1,12 @@
+package faust.lhipgame.game.rooms.enums;
+
+/**
+ * Kinds of terrain of a room TerrainGrid cell
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public enum TerrainEnum {
+    GROUND,
+    WATER,
+    SOLID
+}
@@ -2,8 +2,6 @@ package faust.lhipgame.game.rooms.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
 import faust.lhipgame.game.music.MusicManager;
@@ -11,6 +9,8 @@ import faust.lhipgame.game.music.enums.TuneEnum;
 import faust.lhipgame.game.rooms.AbstractRoom;
 import faust.lhipgame.game.rooms.enums.RoomFlagEnum;
 import faust.lhipgame.game.rooms.enums.RoomTypeEnum;
+import faust.lhipgame.game.rooms.manager.RoomTemplateCache;
+import faust.lhipgame.game.rooms.manager.TiledMapCache;
 import faust.lhipgame.game.splash.SplashManager;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.game.world.manager.WorldManager;
@@ -37,15 +37,15 @@ public class CasualRoom extends AbstractRoom {
     public static final int CASUAL_TOTAL = 7;
     private int casualNumber;
 
-    public CasualRoom(WorldManager worldManager, TextBoxManager textManager, SplashManager splashManager, PlayerInstance player, OrthographicCamera camera, AssetManager assetManager, RoomSaveEntry roomSaveEntry, Map roomFlags, MusicManager musicManager) {
-        super(RoomTypeEnum.CASUAL, worldManager, textManager, splashManager, player, camera, assetManager, roomSaveEntry, roomFlags, musicManager);
+    public CasualRoom(WorldManager worldManager, TextBoxManager textManager, SplashManager splashManager, PlayerInstance player, OrthographicCamera camera, AssetManager assetManager, RoomSaveEntry roomSaveEntry, Map roomFlags, MusicManager musicManager, RoomTemplateCache roomTemplates, TiledMapCache mapCache) {
+        super(RoomTypeEnum.CASUAL, worldManager, textManager, splashManager, player, camera, assetManager, roomSaveEntry, roomFlags, musicManager, roomTemplates, mapCache);
     }
 
     @Override
-    protected void loadTiledMap(RoomSaveEntry roomSaveEntry) {
+    protected void loadTiledMap(RoomSaveEntry roomSaveEntry, AssetManager assetManager) {
 
-        // If has a predefined casual number (like from a savefile or because it was already visited) use that one
-        // Or else generate a new number.
+        // If has a predefined casual number (like from a savefile, because it was already visited
+        // or because it was predicted when prefetching) use that one. Or else generate a new number.
         if (Objects.nonNull(roomSaveEntry)) {
             casualNumber = roomSaveEntry.casualNumber;
 
@@ -53,22 +53,48 @@ public class CasualRoom extends AbstractRoom {
             mustClearPOI = roomSaveEntry.savedFlags.get(RoomFlagEnum.ALREADY_EXAMINED_POIS);
 
         } else {
-            if (roomFlags.get(RoomFlagEnum.GUARDANTEED_BOUNDED)) {
-                //pick only ones with skeleton poi
-                casualNumber = MORGENGABIUM_MAPS.get(MathUtils.random(0, 2));
-            } else {
-                casualNumber = MathUtils.random(1, CasualRoom.CASUAL_TOTAL);
-            }
+            casualNumber = pickCasualNumber(roomFlags.get(RoomFlagEnum.GUARDANTEED_BOUNDED));
         }
-        //Enforce number between 1 and CASUAL_TOTAL. Seemingly unnecessary, but...
-        casualNumber = MathUtils.clamp(casualNumber, 1, CasualRoom.CASUAL_TOTAL);
+        casualNumber = clampCasualNumber(casualNumber);
 
         // Casual maps range from casual1.tmx to casual7.tmx, with a %d to be mapped
         roomFileName = roomFileName.replace("%d", Integer.toString(casualNumber));
 
-        // Load Tiled map
-        tiledMap = new TmxMapLoader().load(roomFileName);
-        tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+        // Get Tiled map, already loaded if prefetched
+        tiledMap = getTiledMap();
+    }
+
+    /**
+     * Enforce number between 1 and CASUAL_TOTAL. Seemingly unnecessary, but...
+     *
+     * @param casualNumber
+     * @return the clamped casual number
+     */
+    public static int clampCasualNumber(int casualNumber) {
+        return MathUtils.clamp(casualNumber, 1, CasualRoom.CASUAL_TOTAL);
+    }
+
+    /**
+     * Picks a random casual map number
+     *
+     * @param guaranteedBounded true if map must have a Bounded enemy
+     * @return the casual number
+     */
+    public static int pickCasualNumber(boolean guaranteedBounded) {
+        if (guaranteedBounded) {
+            //pick only ones with skeleton poi
+            return MORGENGABIUM_MAPS.get(MathUtils.random(0, 2));
+        }
+        return MathUtils.random(1, CasualRoom.CASUAL_TOTAL);
+    }
+
+    /**
+     * @param casualNumber
+     * @param guaranteedBounded true if map must have a Bounded enemy
+     * @return true if the casual number could have been picked with this constraint
+     */
+    public static boolean isCasualNumberAllowed(int casualNumber, boolean guaranteedBounded) {
+        return !guaranteedBounded || MORGENGABIUM_MAPS.contains(casualNumber);
     }
 
     @Override
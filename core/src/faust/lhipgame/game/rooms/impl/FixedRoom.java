@@ -2,24 +2,17 @@ package faust.lhipgame.game.rooms.impl;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import faust.lhipgame.game.echoes.enums.EchoesActorType;
-import faust.lhipgame.game.gameentities.enums.DecorationsEnum;
-import faust.lhipgame.game.gameentities.enums.POIEnum;
 import faust.lhipgame.game.instances.GameInstance;
-import faust.lhipgame.game.instances.impl.DecorationInstance;
 import faust.lhipgame.game.instances.impl.EchoActorInstance;
-import faust.lhipgame.game.instances.impl.POIInstance;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
 import faust.lhipgame.game.music.MusicManager;
 import faust.lhipgame.game.music.enums.TuneEnum;
 import faust.lhipgame.game.rooms.AbstractRoom;
-import faust.lhipgame.game.rooms.enums.MapObjNameEnum;
+import faust.lhipgame.game.rooms.RoomTemplate;
 import faust.lhipgame.game.rooms.enums.RoomFlagEnum;
 import faust.lhipgame.game.rooms.enums.RoomTypeEnum;
+import faust.lhipgame.game.rooms.manager.RoomTemplateCache;
+import faust.lhipgame.game.rooms.manager.TiledMapCache;
 import faust.lhipgame.game.splash.SplashManager;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.game.world.manager.WorldManager;
@@ -42,15 +35,14 @@ public class FixedRoom extends AbstractRoom {
     private boolean echoIsActivated = false;
     private GameInstance echoTrigger;
 
-    public FixedRoom(final RoomTypeEnum roomType, final WorldManager worldManager, final TextBoxManager textManager, final SplashManager splashManager, final PlayerInstance player, final OrthographicCamera camera, final AssetManager assetManager, final RoomSaveEntry roomSaveEntry, Map<RoomFlagEnum, Boolean> roomFlags, MusicManager musicManager) {
-        super(roomType, worldManager, textManager, splashManager, player, camera, assetManager, roomSaveEntry, roomFlags, musicManager);
+    public FixedRoom(final RoomTypeEnum roomType, final WorldManager worldManager, final TextBoxManager textManager, final SplashManager splashManager, final PlayerInstance player, final OrthographicCamera camera, final AssetManager assetManager, final RoomSaveEntry roomSaveEntry, Map<RoomFlagEnum, Boolean> roomFlags, MusicManager musicManager, final RoomTemplateCache roomTemplates, final TiledMapCache mapCache) {
+        super(roomType, worldManager, textManager, splashManager, player, camera, assetManager, roomSaveEntry, roomFlags, musicManager, roomTemplates, mapCache);
     }
 
     @Override
-    protected void loadTiledMap(RoomSaveEntry roomSaveEntry) {
-        // Load Tiled map
-        tiledMap = new TmxMapLoader().load(roomFileName);
-        tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+    protected void loadTiledMap(RoomSaveEntry roomSaveEntry, AssetManager assetManager) {
+        // Get Tiled map, already loaded if prefetched
+        tiledMap = getTiledMap();
 
         // FIXME handle multiple POI
         if (Objects.nonNull(roomSaveEntry)) {
@@ -61,12 +53,19 @@ public class FixedRoom extends AbstractRoom {
     @Override
     protected void initRoom(RoomTypeEnum roomType, WorldManager worldManager, TextBoxManager textManager, SplashManager splashManager, PlayerInstance player, OrthographicCamera camera, AssetManager assetManager) {
         this.echoActors = new ArrayList<>();
-        mapObjects.forEach(obj -> {
-            // Prepare ECHO ACTORS if not disabled
-            if (!roomFlags.get(RoomFlagEnum.DISABLED_ECHO) && MapObjNameEnum.ECHO_ACTOR.name().equals(obj.getName())) {
-                addObjAsEchoActor(obj, assetManager);
+        // Prepare ECHO ACTORS if not disabled
+        if (!roomFlags.get(RoomFlagEnum.DISABLED_ECHO)) {
+            for (int i = 0; i < roomTemplate.getEchoActorCount(); i++) {
+                addEchoActor(i, assetManager);
             }
-        });
+        }
+
+        // Echo trigger was found when compiling the template
+        if (roomTemplate.getEchoTriggerPoi() != RoomTemplate.NO_ECHO_TRIGGER) {
+            echoTrigger = poiList.get(roomTemplate.getEchoTriggerPoi());
+        } else if (roomTemplate.getEchoTriggerDecoration() != RoomTemplate.NO_ECHO_TRIGGER) {
+            echoTrigger = decorationList.get(roomTemplate.getEchoTriggerDecoration());
+        }
 
         worldManager.insertEchoActorsIntoWorld(echoActors);
 
@@ -85,101 +84,16 @@ public class FixedRoom extends AbstractRoom {
     }
 
     /**
-     * Add a object as POI, with custom echo logic
-     *
-     * @param obj
-     * @param textManager
-     */
-    @Override
-    protected void addObjAsPOI(MapObject obj, TextBoxManager textManager, AssetManager assetManager) {
-
-        POIEnum poiType = POIEnum.getFromString((String) obj.getProperties().get("type"));
-        Objects.requireNonNull(poiType);
-
-        POIInstance instance = new POIInstance(textManager,
-                (float) obj.getProperties().get("x"),
-                (float) obj.getProperties().get("y"),
-                poiType, player, splashManager, assetManager,
-                roomFlags.get(RoomFlagEnum.GUARANTEED_MORGENGABE));
-
-        poiList.add(instance);
-
-        //Check if is Echo trigger
-        if (Objects.nonNull(obj.getProperties().get("isEchoTrigger"))) {
-
-            if (Objects.nonNull(echoTrigger)) {
-                throw new RuntimeException("More than one echo trigger in the room!");
-            }
-
-            echoTrigger = instance;
-        }
-    }
-
-    /**
-     * Add a object as Decoration, with custom echo logic
-     *
-     * @param obj MapObject to add
-     */
-    @Override
-    protected void addObjAsDecoration(MapObject obj, AssetManager assetManager) {
-
-        DecorationsEnum decoType = DecorationsEnum.getFromString((String) obj.getProperties().get("type"));
-        Objects.requireNonNull(decoType);
-
-        DecorationInstance instance = new DecorationInstance(
-                (float) obj.getProperties().get("x"),
-                (float) obj.getProperties().get("y"),
-                decoType, assetManager);
-
-        decorationList.add(instance);
-
-        //Check if is Echo trigger
-        if (Objects.nonNull(obj.getProperties().get("isEchoTrigger"))) {
-
-            if (Objects.nonNull(echoTrigger)) {
-                throw new RuntimeException("More than one echo trigger in the room!");
-            }
-
-            echoTrigger = instance;
-        }
-    }
-
-    /**
-     * Add a object as Echo Actor
+     * Add an Echo Actor
      *
-     * @param obj          MapObject to add
+     * @param index        in the room template
      * @param assetManager
      */
-    private void addObjAsEchoActor(MapObject obj, AssetManager assetManager) {
+    private void addEchoActor(int index, AssetManager assetManager) {
 
-        EchoesActorType echoesActorType = EchoesActorType.getFromString((String) obj.getProperties().get("type"));
-        Objects.requireNonNull(echoesActorType);
-
-        echoActors.add(new EchoActorInstance(echoesActorType,
-                (float) obj.getProperties().get("x"),
-                (float) obj.getProperties().get("y"), assetManager));
-
-    }
-
-    @Override
-    public void drawRoomContents(SpriteBatch batch, float stateTime) {
-        List<GameInstance> allInstance = new ArrayList<>();
-
-        allInstance.addAll(poiList);
-        allInstance.addAll(decorationList);
-        allInstance.add(player);
-        allInstance.addAll(enemyList);
-
-        if (echoIsActivated && Objects.nonNull(echoActors)) {
-            allInstance.addAll(echoActors);
-        }
-
-        // Sort by Y for depth effect. If decoration is interacted, priority is lowered
-        allInstance.sort((o1, o2) -> compareEntities(o1, o2));
-
-        allInstance.forEach((i) -> {
-            i.draw(batch, stateTime);
-        });
+        echoActors.add(new EchoActorInstance(roomTemplate.getEchoActorType(index),
+                roomTemplate.getEchoActorX(index),
+                roomTemplate.getEchoActorY(index), assetManager));
 
     }
 
@@ -208,6 +122,7 @@ public class FixedRoom extends AbstractRoom {
 
                 if (actor.mustRemoveFromRoom()) {
                     actor.dispose();
+                    renderList.remove(actor);
                 }
             });
 
@@ -216,11 +131,14 @@ public class FixedRoom extends AbstractRoom {
 
             //activate room echo if needed
             if (Objects.nonNull(echoTrigger)) {
-                echoIsActivated = player.getBody().getPosition().dst(echoTrigger.getBody().getPosition()) <= ECHO_ACTIVATION_DISTANCE;
+                echoIsActivated = spatialGrid.isWithinDistance(player, echoTrigger, ECHO_ACTIVATION_DISTANCE);
             }
 
             //Show echo text if NOW is active
             if (echoIsActivated) {
+                renderList.addAll(echoActors);
+                refreshRenderList();
+
                 echoActors.forEach(echoActorInstance -> {
                     echoActorInstance.playStartingSound();
 
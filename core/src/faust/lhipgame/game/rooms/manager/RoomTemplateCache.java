@@ -0,0 +1,108 @@
+package faust.lhipgame.game.rooms.manager;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import faust.lhipgame.game.rooms.AbstractRoom;
+import faust.lhipgame.game.rooms.RoomTemplate;
+import faust.lhipgame.game.rooms.enums.RoomTypeEnum;
+import faust.lhipgame.game.rooms.impl.CasualRoom;
+
+import java.util.Objects;
+
+/**
+ * Holds the compiled RoomTemplate of every room map. All the templates are
+ * compiled in parallel on warm up, so that entering a room never reads map properties
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class RoomTemplateCache {
+
+    private static final int WARM_UP_THREADS = 4;
+
+    private final ObjectMap<String, RoomTemplate> templates = new ObjectMap<>();
+    private final Array<AsyncResult<RoomTemplate>> pendingResults = new Array<>();
+    private AsyncExecutor executor;
+
+    /**
+     * Starts compiling in background the templates of all the room maps
+     */
+    public void warmUp() {
+        if (Objects.nonNull(executor) || templates.size > 0) {
+            return;
+        }
+
+        executor = new AsyncExecutor(WARM_UP_THREADS, "RoomTemplateWarmUp");
+        for (RoomTypeEnum roomType : RoomTypeEnum.values()) {
+            if (roomType.getMapFileName().isEmpty()) {
+                continue;
+            }
+
+            if (RoomTypeEnum.CASUAL.equals(roomType)) {
+                for (int casualNumber = 1; casualNumber <= CasualRoom.CASUAL_TOTAL; casualNumber++) {
+                    submit(AbstractRoom.getRoomFileName(roomType, casualNumber));
+                }
+            } else {
+                submit(AbstractRoom.getRoomFileName(roomType, 0));
+            }
+        }
+    }
+
+    private void submit(final String fileName) {
+        pendingResults.add(executor.submit(() -> RoomTemplate.compile(fileName, Gdx.files.internal(fileName))));
+    }
+
+    /**
+     * Collects the compiled templates. To be called on the main thread
+     *
+     * @return true if all templates are ready
+     */
+    public boolean update() {
+        for (int i = pendingResults.size - 1; i >= 0; i--) {
+            final AsyncResult<RoomTemplate> result = pendingResults.get(i);
+            if (result.isDone()) {
+                final RoomTemplate template = result.get();
+                templates.put(template.getFileName(), template);
+                pendingResults.removeIndex(i);
+            }
+        }
+
+        if (pendingResults.size == 0 && Objects.nonNull(executor)) {
+            executor.dispose();
+            executor = null;
+        }
+        return pendingResults.size == 0;
+    }
+
+    /**
+     * Gets a template, compiling it on the spot if warm up has not done it yet
+     *
+     * @param fileName of the room map
+     * @return the template
+     */
+    public RoomTemplate get(final String fileName) {
+        Objects.requireNonNull(fileName);
+
+        RoomTemplate template = templates.get(fileName);
+        if (Objects.isNull(template)) {
+            Gdx.app.log("WARN", "Room template " + fileName + " was not warmed up");
+            if (!Gdx.files.internal(fileName).exists()) {
+                throw new GdxRuntimeException("Room map " + fileName + " does not exist");
+            }
+            template = RoomTemplate.compile(fileName, Gdx.files.internal(fileName));
+            templates.put(fileName, template);
+        }
+        return template;
+    }
+
+    public void dispose() {
+        if (Objects.nonNull(executor)) {
+            executor.dispose();
+            executor = null;
+        }
+        pendingResults.clear();
+    }
+}
@@ -3,15 +3,15 @@ package faust.lhipgame.game.rooms.manager;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.SerializationException;
 import faust.lhipgame.LHIPGame;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
 import faust.lhipgame.game.music.MusicManager;
+import faust.lhipgame.game.render.RenderQueue;
 import faust.lhipgame.game.rooms.AbstractRoom;
+import faust.lhipgame.game.rooms.RoomCoord;
 import faust.lhipgame.game.rooms.enums.RoomFlagEnum;
 import faust.lhipgame.game.rooms.enums.RoomTypeEnum;
 import faust.lhipgame.game.rooms.impl.CasualRoom;
@@ -20,11 +20,14 @@ import faust.lhipgame.game.splash.SplashManager;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.game.world.manager.WorldManager;
 import faust.lhipgame.saves.RoomSaveEntry;
+import faust.lhipgame.saves.RoomSaveTable;
 import faust.lhipgame.saves.SaveFileManager;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Room Manager class
@@ -38,14 +41,26 @@ public class RoomsManager {
     private final SaveFileManager saveFileManager;
 
     private AbstractRoom currentRoom;
-    private final Vector2 currentRoomPosInWorld = new Vector2(0, 0);
+    private int currentRoomCoord = RoomCoord.pack(0, 0);
 
     /**
-     * MainWorld Matrix
+     * MainWorld Matrix, stored row major and indexed by packed room position
      */
-    private final Map<Vector2, RoomTypeEnum> mainWorld = new HashMap<>();
-    private final Map<Vector2, RoomSaveEntry> saveMap = new HashMap<>();
-    private final Vector2 mainWorldSize = new Vector2(0, 0);
+    private RoomTypeEnum[] mainWorld;
+    private RoomSaveTable saveTable;
+    private int mainWorldWidth = 0;
+    private int mainWorldHeight = 0;
+
+    /**
+     * Prefetching of adjacent rooms
+     */
+    private static final int[][] NEIGHBOUR_OFFSETS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int NO_PREDICTION = -1;
+    private int[] predictedCasualNumbers;
+    private final TiledMapCache mapCache;
+    private final Set<String> prefetchedMapFiles = new HashSet<>();
+    private String currentRoomFileName;
+    private final RoomTemplateCache roomTemplates;
 
     private final WorldManager worldManager;
     private final TextBoxManager textManager;
@@ -53,7 +68,7 @@ public class RoomsManager {
     private final OrthographicCamera camera;
     private final MusicManager musicManager;
 
-    public RoomsManager(WorldManager worldManager, TextBoxManager textManager, SplashManager splashManager, PlayerInstance player, OrthographicCamera camera, AssetManager assetManager, SaveFileManager saveFileManager, MusicManager musicManager) {
+    public RoomsManager(WorldManager worldManager, TextBoxManager textManager, SplashManager splashManager, PlayerInstance player, OrthographicCamera camera, AssetManager assetManager, SaveFileManager saveFileManager, MusicManager musicManager, RoomTemplateCache roomTemplates) {
         this.worldManager = worldManager;
         this.textManager = textManager;
         this.splashManager = splashManager;
@@ -62,6 +77,9 @@ public class RoomsManager {
         this.musicManager = musicManager;
         this.player = player;
         this.camera = camera;
+        this.roomTemplates = roomTemplates;
+
+        this.mapCache = new TiledMapCache(assetManager);
 
         initMainWorld();
         changeCurrentRoom(2, 0);
@@ -73,21 +91,29 @@ public class RoomsManager {
     private void initMainWorld() {
 
         JsonValue terrains = new JsonReader().parse(Gdx.files.internal("mainWorldModel.json")).get("terrains");
-        mainWorldSize.set(0, 0);
+
+        // Size first, rooms are stored in flat arrays
+        mainWorldWidth = 0;
+        mainWorldHeight = 0;
+        terrains.forEach((t) -> {
+            mainWorldWidth = Math.max(mainWorldWidth, t.getInt("x") + 1);
+            mainWorldHeight = Math.max(mainWorldHeight, t.getInt("y") + 1);
+        });
+
+        mainWorld = new RoomTypeEnum[mainWorldWidth * mainWorldHeight];
+        saveTable = new RoomSaveTable(mainWorldWidth, mainWorldHeight);
+        predictedCasualNumbers = new int[mainWorld.length];
+        Arrays.fill(predictedCasualNumbers, NO_PREDICTION);
 
         terrains.forEach((t) -> {
-            Vector2 v = new Vector2(t.getFloat("x"), t.getFloat("y"));
             RoomTypeEnum type = RoomTypeEnum.getFromString(t.getString("roomType"));
             Objects.requireNonNull(type);
-            mainWorld.put(v, type);
-            mainWorldSize.set(Math.max(mainWorldSize.x, v.x), Math.max(mainWorldSize.y, v.y));
+            mainWorld[RoomCoord.toIndex(RoomCoord.pack(t.getInt("x"), t.getInt("y")), mainWorldWidth)] = type;
         });
-        // Finalize size
-        mainWorldSize.set(mainWorldSize.x + 1, mainWorldSize.y + 1);
 
         //Try to load predefined casualnumbers for casual rooms from file
         try {
-            saveFileManager.loadSave(player, saveMap);
+            saveFileManager.loadSave(player, saveTable);
 
         } catch (SerializationException ex) {
             Gdx.app.log("WARN", "No valid savefile to load");
@@ -102,39 +128,146 @@ public class RoomsManager {
      */
     public void changeCurrentRoom(int newRoomPosX, int newRoomPosY) {
 
-
-        float finalX = (newRoomPosX < 0 ? mainWorldSize.x - 1 : (newRoomPosX == mainWorldSize.x ? 0 : newRoomPosX));
-        float finalY = (newRoomPosY < 0 ? mainWorldSize.y - 1 : (newRoomPosY == mainWorldSize.y ? 0 : newRoomPosY));
-
-        currentRoomPosInWorld.set(finalX, finalY);
+        currentRoomCoord = wrapRoomPosition(newRoomPosX, newRoomPosY);
+        final int finalX = RoomCoord.getX(currentRoomCoord);
+        final int finalY = RoomCoord.getY(currentRoomCoord);
+        final RoomTypeEnum roomType = getRoomType(currentRoomCoord);
 
         //Init room flags
-        Map<RoomFlagEnum, Boolean> roomFlags = populateRoomFlags(mainWorld.get(currentRoomPosInWorld));
+        Map<RoomFlagEnum, Boolean> roomFlags = populateRoomFlags(roomType);
+
+        // Unvisited casual rooms use the casual number predicted when prefetching, so the map is already loaded
+        RoomSaveEntry roomSaveEntry = saveTable.get(currentRoomCoord);
+        if (RoomTypeEnum.CASUAL.equals(roomType) && Objects.isNull(roomSaveEntry)) {
+            roomSaveEntry = new RoomSaveEntry(finalX, finalY, predictCasualNumber(currentRoomCoord),
+                    RoomFlagEnum.generateDefaultRoomFlags());
+        }
+        // The room borrows its map from the cache until it is left
+        final String previousRoomFileName = currentRoomFileName;
+        currentRoomFileName = AbstractRoom.getRoomFileName(roomType,
+                Objects.isNull(roomSaveEntry) ? 0 : CasualRoom.clampCasualNumber(roomSaveEntry.casualNumber));
+        mapCache.acquire(currentRoomFileName);
 
         int roomCasualNumber = 0;
-        switch (mainWorld.get(currentRoomPosInWorld)) {
+        switch (roomType) {
             case CASUAL: {
-                currentRoom = new CasualRoom(worldManager, textManager, splashManager, player, camera, assetManager, saveMap.get(currentRoomPosInWorld), roomFlags, musicManager);
+                currentRoom = new CasualRoom(worldManager, textManager, splashManager, player, camera, assetManager, roomSaveEntry, roomFlags, musicManager, roomTemplates, mapCache);
                 // Save casualnumber in memory and prepare save on filesystem
                 roomCasualNumber = ((CasualRoom) currentRoom).getCasualNumber();
 
                 break;
             }
             default: {
-                currentRoom = new FixedRoom(mainWorld.get(currentRoomPosInWorld), worldManager, textManager, splashManager, player, camera, assetManager, saveMap.get(currentRoomPosInWorld), roomFlags, musicManager);
+                currentRoom = new FixedRoom(roomType, worldManager, textManager, splashManager, player, camera, assetManager, roomSaveEntry, roomFlags, musicManager, roomTemplates, mapCache);
                 break;
             }
         }
-        Gdx.app.log("DEBUG", "ROOM " + (int) currentRoomPosInWorld.x + "," + (int) currentRoomPosInWorld.y);
+        Gdx.app.log("DEBUG", "ROOM " + finalX + "," + finalY);
         //Keep the same state of already visited rooms
-        saveMap.put(currentRoomPosInWorld,
-                new RoomSaveEntry(
-                        (int) finalX,
-                        (int) finalY,
-                        roomCasualNumber,
-                        roomFlags));
+        saveTable.put(new RoomSaveEntry(
+                finalX,
+                finalY,
+                roomCasualNumber,
+                roomFlags));
+        predictedCasualNumbers[RoomCoord.toIndex(currentRoomCoord, mainWorldWidth)] = NO_PREDICTION;
+
+        if (Objects.nonNull(previousRoomFileName)) {
+            mapCache.release(previousRoomFileName);
+        }
+        prefetchNeighbourRooms();
+    }
 
+    /**
+     * Wraps a room position around the edges of the main world
+     *
+     * @param roomPosX relative to the matrix of the world
+     * @param roomPosY relative to the matrix of the world
+     * @return wrapped packed position
+     */
+    private int wrapRoomPosition(int roomPosX, int roomPosY) {
+        return RoomCoord.pack(roomPosX < 0 ? mainWorldWidth - 1 : (roomPosX == mainWorldWidth ? 0 : roomPosX),
+                roomPosY < 0 ? mainWorldHeight - 1 : (roomPosY == mainWorldHeight ? 0 : roomPosY));
+    }
+
+    /**
+     * @param roomCoord packed position
+     * @return type of the room, null if there is no room there
+     */
+    private RoomTypeEnum getRoomType(int roomCoord) {
+        return mainWorld[RoomCoord.toIndex(roomCoord, mainWorldWidth)];
+    }
 
+    /**
+     * Predicts the casual number of an unvisited casual room. The prediction is kept
+     * until the room is visited, unless it is not allowed anymore by the room flags
+     *
+     * @param roomCoord packed position
+     * @return the predicted casual number
+     */
+    private int predictCasualNumber(int roomCoord) {
+        final boolean guaranteedBounded = isBoundedGuaranteed();
+        final int index = RoomCoord.toIndex(roomCoord, mainWorldWidth);
+        int casualNumber = predictedCasualNumbers[index];
+
+        if (casualNumber == NO_PREDICTION || !CasualRoom.isCasualNumberAllowed(casualNumber, guaranteedBounded)) {
+            casualNumber = CasualRoom.pickCasualNumber(guaranteedBounded);
+            predictedCasualNumbers[index] = casualNumber;
+        }
+        return casualNumber;
+    }
+
+    /**
+     * Borrows in background the Tiled maps of the up to four adjacent rooms, and
+     * gives back the ones that cannot be reached anymore from current room
+     */
+    private void prefetchNeighbourRooms() {
+        final Set<String> neededMapFiles = new HashSet<>();
+
+        for (int[] offset : NEIGHBOUR_OFFSETS) {
+            final int neighbourCoord = wrapRoomPosition(RoomCoord.getX(currentRoomCoord) + offset[0],
+                    RoomCoord.getY(currentRoomCoord) + offset[1]);
+            final RoomTypeEnum neighbourType = getRoomType(neighbourCoord);
+
+            if (Objects.isNull(neighbourType) || neighbourType.getMapFileName().isEmpty()) {
+                continue;
+            }
+
+            int casualNumber = 0;
+            if (RoomTypeEnum.CASUAL.equals(neighbourType)) {
+                final RoomSaveEntry entry = saveTable.get(neighbourCoord);
+                casualNumber = Objects.isNull(entry) ? predictCasualNumber(neighbourCoord) : CasualRoom.clampCasualNumber(entry.casualNumber);
+            }
+            neededMapFiles.add(AbstractRoom.getRoomFileName(neighbourType, casualNumber));
+        }
+
+        // Borrow the new ones first, so that maps still needed are never unloaded
+        neededMapFiles.forEach((fileName) -> {
+            if (!prefetchedMapFiles.contains(fileName)) {
+                mapCache.acquire(fileName);
+            }
+        });
+        prefetchedMapFiles.forEach((fileName) -> {
+            if (!neededMapFiles.contains(fileName)) {
+                mapCache.release(fileName);
+            }
+        });
+
+        prefetchedMapFiles.clear();
+        prefetchedMapFiles.addAll(neededMapFiles);
+    }
+
+    /**
+     * Advances the background loading of prefetched rooms. To be called once per frame
+     */
+    public void updatePrefetch() {
+        mapCache.update();
+    }
+
+    /**
+     * @return true if new casual rooms must have a Bounded enemy
+     */
+    private boolean isBoundedGuaranteed() {
+        return saveTable.size() >= 15;
     }
 
     /**
@@ -145,24 +278,24 @@ public class RoomsManager {
         //default map
         Map<RoomFlagEnum, Boolean> newRoomFlags = RoomFlagEnum.generateDefaultRoomFlags();
 
-        if (RoomTypeEnum.CASUAL.equals(mainWorld.get(currentRoomPosInWorld))) {
+        if (RoomTypeEnum.CASUAL.equals(getRoomType(currentRoomCoord))) {
             //If unvisited rooms are less than the number of found morgengabes to find, guarantee them
             final boolean guaranteedMorgengabe = player.getFoundMorgengabes() < 9 &&
-                    (mainWorldSize.x * mainWorldSize.y) - 10 <= (saveMap.size() + (9 - player.getFoundMorgengabes()));
+                    (mainWorldWidth * mainWorldHeight) - 10 <= (saveTable.size() + (9 - player.getFoundMorgengabes()));
             newRoomFlags.put(RoomFlagEnum.GUARANTEED_MORGENGABE, guaranteedMorgengabe);
 
-        } else if (RoomTypeEnum.hasEchoes(mainWorld.get(currentRoomPosInWorld))) {
+        } else if (RoomTypeEnum.hasEchoes(getRoomType(currentRoomCoord))) {
 
             //If echoes were disabled in this room, disable them
-            if (saveMap.containsKey(currentRoomPosInWorld)) {
-                RoomSaveEntry entry = saveMap.get(currentRoomPosInWorld);
+            if (saveTable.contains(currentRoomCoord)) {
+                RoomSaveEntry entry = saveTable.get(currentRoomCoord);
                 newRoomFlags.put(RoomFlagEnum.DISABLED_ECHO, entry.savedFlags.get(RoomFlagEnum.DISABLED_ECHO));
             }
 
         }
 
         //Avoid showing more than one time enemy splash
-        saveMap.forEach((key, entry) -> {
+        saveTable.forEach((entry) -> {
             if (entry.savedFlags.get(RoomFlagEnum.FIRST_BOUNDED_ENCOUNTERED)) {
                 newRoomFlags.put(RoomFlagEnum.FIRST_BOUNDED_ENCOUNTERED, true);
             }
@@ -173,10 +306,10 @@ public class RoomsManager {
 
 
         //Only bounded enemies after 15 rooms are visited
-        newRoomFlags.put(RoomFlagEnum.GUARDANTEED_BOUNDED, saveMap.size() >= 15);
+        newRoomFlags.put(RoomFlagEnum.GUARDANTEED_BOUNDED, isBoundedGuaranteed());
 
         //If this is the room visited, there should be no enemies even if they are in map
-        newRoomFlags.put(RoomFlagEnum.DISABLED_ENEMIES, saveMap.size() < 2);
+        newRoomFlags.put(RoomFlagEnum.DISABLED_ENEMIES, saveTable.size() < 2);
 
 
         return newRoomFlags;
@@ -191,7 +324,7 @@ public class RoomsManager {
         currentRoom.doRoomContentsLogic(stateTime);
 
         //Check if all poi have been examined
-        saveMap.get(currentRoomPosInWorld).savedFlags.put(RoomFlagEnum.ALREADY_EXAMINED_POIS, currentRoom.arePoiCleared());
+        saveTable.get(currentRoomCoord).savedFlags.put(RoomFlagEnum.ALREADY_EXAMINED_POIS, currentRoom.arePoiCleared());
 
         // In final room should never change
         if(RoomTypeEnum.FINAL.equals(currentRoom.getRoomType()) ){
@@ -199,36 +332,39 @@ public class RoomsManager {
         }
 
         // After room logic, handle the room change
-        Vector2 playerPosition = player.getBody().getPosition();
-        player.setStartX(playerPosition.x);
-        player.setStartY(playerPosition.y);
+        final float playerX = player.getX();
+        final float playerY = player.getY();
+        player.setStartX(playerX);
+        player.setStartY(playerY);
 
-        int newXPosInMatrix = (int) getCurrentRoomPosInWorld().x;
-        int newYPosInMatrix = (int) getCurrentRoomPosInWorld().y;
+        final int currentXPosInMatrix = RoomCoord.getX(currentRoomCoord);
+        final int currentYPosInMatrix = RoomCoord.getY(currentRoomCoord);
+        int newXPosInMatrix = currentXPosInMatrix;
+        int newYPosInMatrix = currentYPosInMatrix;
 
         // Check for left or right passage
-        if (playerPosition.x < AbstractRoom.LEFT_BOUNDARY &&
+        if (playerX < AbstractRoom.LEFT_BOUNDARY &&
                 !RoomTypeEnum.CEMETERY_CENTER.equals(currentRoom.getRoomType()) &&
                 !RoomTypeEnum.CEMETERY_TOP.equals(currentRoom.getRoomType())) {
             newXPosInMatrix--;
             player.setStartX(AbstractRoom.RIGHT_BOUNDARY - 4);
-        } else if ((playerPosition.x > AbstractRoom.RIGHT_BOUNDARY)) {
+        } else if ((playerX > AbstractRoom.RIGHT_BOUNDARY)) {
             newXPosInMatrix++;
             player.setStartX(AbstractRoom.LEFT_BOUNDARY + 4);
         }
 
         // Check for top or bottom passage
-        if (playerPosition.y < AbstractRoom.BOTTOM_BOUNDARY &&
+        if (playerY < AbstractRoom.BOTTOM_BOUNDARY &&
                 !RoomTypeEnum.CEMETERY_CENTER.equals(currentRoom.getRoomType()) &&
                 !RoomTypeEnum.CEMETERY_RIGHT.equals(currentRoom.getRoomType())) {
             newYPosInMatrix--;
             player.setStartY(AbstractRoom.TOP_BOUNDARY - 4);
-        } else if (playerPosition.y > AbstractRoom.TOP_BOUNDARY &&
+        } else if (playerY > AbstractRoom.TOP_BOUNDARY &&
                 !RoomTypeEnum.CHURCH_LEFT.equals(currentRoom.getRoomType()) &&
                 !RoomTypeEnum.CHURCH_RIGHT.equals(currentRoom.getRoomType())) {
             newYPosInMatrix++;
             player.setStartY(AbstractRoom.BOTTOM_BOUNDARY + 4);
-        } else if (playerPosition.y > LHIPGame.GAME_HEIGHT * 0.45 &&
+        } else if (playerY > LHIPGame.GAME_HEIGHT * 0.45 &&
                 RoomTypeEnum.CHURCH_ENTRANCE.equals(currentRoom.getRoomType())) {
             //Final room
             newYPosInMatrix++;
@@ -236,92 +372,121 @@ public class RoomsManager {
         }
 
         // Adjustments for world extremes, semi pacman effect 
-        if (((playerPosition.x < AbstractRoom.LEFT_BOUNDARY) || (playerPosition.y > AbstractRoom.TOP_BOUNDARY)) &&
-                getCurrentRoomPosInWorld().x == 0 &&
-                getCurrentRoomPosInWorld().y == mainWorldSize.y - 1) {
+        if (((playerX < AbstractRoom.LEFT_BOUNDARY) || (playerY > AbstractRoom.TOP_BOUNDARY)) &&
+                currentXPosInMatrix == 0 &&
+                currentYPosInMatrix == mainWorldHeight - 1) {
 
-            if (playerPosition.y > AbstractRoom.TOP_BOUNDARY) {
+            if (playerY > AbstractRoom.TOP_BOUNDARY) {
                 player.setStartY(AbstractRoom.BOTTOM_BOUNDARY + 4);
             } else {
                 player.setStartX(AbstractRoom.RIGHT_BOUNDARY - 4);
             }
 
-            newXPosInMatrix = (int) mainWorldSize.x - 1;
+            newXPosInMatrix = mainWorldWidth - 1;
             newYPosInMatrix = 0;
-        } else if (playerPosition.x < AbstractRoom.LEFT_BOUNDARY &&
-                getCurrentRoomPosInWorld().x == 0 &&
-                getCurrentRoomPosInWorld().y == mainWorldSize.y - 2) {
+        } else if (playerX < AbstractRoom.LEFT_BOUNDARY &&
+                currentXPosInMatrix == 0 &&
+                currentYPosInMatrix == mainWorldHeight - 2) {
 
             player.setStartX(AbstractRoom.RIGHT_BOUNDARY - 4);
 
-            newXPosInMatrix = (int) mainWorldSize.x - 1;
+            newXPosInMatrix = mainWorldWidth - 1;
             newYPosInMatrix = 1;
-        } else if (((playerPosition.x > AbstractRoom.RIGHT_BOUNDARY) || (playerPosition.y < AbstractRoom.BOTTOM_BOUNDARY)) &&
-                getCurrentRoomPosInWorld().x == mainWorldSize.x - 1 &&
-                getCurrentRoomPosInWorld().y == 0 &&
+        } else if (((playerX > AbstractRoom.RIGHT_BOUNDARY) || (playerY < AbstractRoom.BOTTOM_BOUNDARY)) &&
+                currentXPosInMatrix == mainWorldWidth - 1 &&
+                currentYPosInMatrix == 0 &&
                 !RoomTypeEnum.START_POINT.equals(currentRoom.getRoomType())) {
 
-            if (playerPosition.y < AbstractRoom.BOTTOM_BOUNDARY) {
+            if (playerY < AbstractRoom.BOTTOM_BOUNDARY) {
                 player.setStartY(AbstractRoom.TOP_BOUNDARY - 4);
             } else {
                 player.setStartX(AbstractRoom.LEFT_BOUNDARY + 4);
             }
 
             newXPosInMatrix = 0;
-            newYPosInMatrix = (int) (mainWorldSize.y - 1);
-        } else if (playerPosition.x > AbstractRoom.RIGHT_BOUNDARY &&
-                getCurrentRoomPosInWorld().x == mainWorldSize.x - 1 &&
-                getCurrentRoomPosInWorld().y == 1) {
+            newYPosInMatrix = mainWorldHeight - 1;
+        } else if (playerX > AbstractRoom.RIGHT_BOUNDARY &&
+                currentXPosInMatrix == mainWorldWidth - 1 &&
+                currentYPosInMatrix == 1) {
 
             player.setStartX(AbstractRoom.LEFT_BOUNDARY + 4);
 
             newXPosInMatrix = 0;
-            newYPosInMatrix = (int) (mainWorldSize.y - 2);
+            newYPosInMatrix = mainWorldHeight - 2;
         }
 
         //Change room and clear nearest poi reference
-        if (getCurrentRoomPosInWorld().x != newXPosInMatrix || getCurrentRoomPosInWorld().y != newYPosInMatrix) {
+        if (currentXPosInMatrix != newXPosInMatrix || currentYPosInMatrix != newYPosInMatrix) {
             changeCurrentRoom(newXPosInMatrix, newYPosInMatrix);
             player.cleanReferences();
         }
     }
 
     /**
-     * Draws all the POIs and the Decorations
+     * Refreshes the spatial index of the current room. To be called after each world step
+     */
+    public void updateCurrentRoomSpatialIndex() {
+        currentRoom.updateSpatialIndex();
+    }
+
+    /**
+     * Interpolates the draw positions of the current room contents
+     *
+     * @param alpha fraction of tick elapsed since the last one
+     */
+    public void interpolateCurrentRoomContents(float alpha) {
+        currentRoom.interpolateContentsPositions(alpha);
+    }
+
+    /**
+     * Submits all the POIs and the Decorations
      *
-     * @param batch
+     * @param queue
      * @param stateTime
      */
-    public void drawCurrentRoomContents(SpriteBatch batch, float stateTime) {
-        Objects.requireNonNull(batch);
+    public void drawCurrentRoomContents(final RenderQueue queue, float stateTime) {
+        Objects.requireNonNull(queue);
 
-        currentRoom.drawRoomContents(batch, stateTime);
+        currentRoom.drawRoomContents(queue, stateTime);
     }
 
     /**
-     * Draws the current room background terrain
+     * Submits the current room background terrain
+     *
+     * @param queue
      */
-    public void drawCurrentRoomBackground() {
-        currentRoom.drawRoomTerrain();
+    public void drawCurrentRoomBackground(final RenderQueue queue) {
+        Objects.requireNonNull(queue);
+
+        currentRoom.drawRoomTerrain(queue);
     }
 
-    public Vector2 getCurrentRoomPosInWorld() {
-        return currentRoomPosInWorld;
+    /**
+     * @return packed position of the current room, see RoomCoord
+     */
+    public int getCurrentRoomCoord() {
+        return currentRoomCoord;
     }
 
     /**
      * Dispose current room contents
      */
     public void dispose() {
-        saveFileManager.saveOnFile(player, saveMap);
+        saveFileManager.saveOnFile(player, saveTable);
 
         currentRoom.dispose();
+        prefetchedMapFiles.clear();
+        mapCache.dispose();
     }
 
     /**
-     * Draws the current room overlay tiles
+     * Submits the current room overlay tiles
+     *
+     * @param queue
      */
-    public void drawCurrentRoomOverlays() {
-        currentRoom.drawRoomOverlay();
+    public void drawCurrentRoomOverlays(final RenderQueue queue) {
+        Objects.requireNonNull(queue);
+
+        currentRoom.drawRoomOverlay(queue);
     }
 }
@@ -0,0 +1,125 @@
+package faust.lhipgame.game.rooms.manager;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Objects;
+
+/**
+ * Cache of parsed Tiled maps, keyed by map file name. Maps are borrowed with acquire
+ * and given back with release. Maps not borrowed by anyone are kept loaded for
+ * re-use, up to a budget: beyond that the least recently released are unloaded.
+ * Maps are loaded asynchronously by the AssetManager.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class TiledMapCache {
+
+    private static final int MAX_IDLE_MAPS = 8;
+
+    private final AssetManager assetManager;
+
+    // Number of borrowers of each known map, zero means idle
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+    // Idle maps, least recently released first
+    private final Array<String> idleMaps = new Array<>();
+
+    public TiledMapCache(final AssetManager assetManager) {
+        Objects.requireNonNull(assetManager);
+
+        this.assetManager = assetManager;
+        assetManager.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+    }
+
+    /**
+     * Borrows a map. If not cached it is queued for background loading
+     *
+     * @param fileName
+     */
+    public void acquire(final String fileName) {
+        Objects.requireNonNull(fileName);
+
+        final int count = references.get(fileName, -1);
+        if (count < 0) {
+            assetManager.load(fileName, TiledMap.class);
+        } else if (count == 0) {
+            // Reused from idle maps, no loading needed
+            idleMaps.removeValue(fileName, false);
+        }
+        references.put(fileName, count < 0 ? 1 : count + 1);
+    }
+
+    /**
+     * Gives back a borrowed map. When no one borrows it anymore it becomes idle
+     *
+     * @param fileName
+     */
+    public void release(final String fileName) {
+        Objects.requireNonNull(fileName);
+
+        final int count = references.get(fileName, 0);
+        if (count <= 0) {
+            Gdx.app.log("WARN", "Releasing not borrowed map " + fileName);
+            return;
+        }
+
+        references.put(fileName, count - 1);
+        if (count == 1) {
+            idleMaps.add(fileName);
+            evictIdleMaps();
+        }
+    }
+
+    /**
+     * Gets a borrowed map, blocking and logging a warning if it is not loaded yet
+     *
+     * @param fileName
+     * @return the map
+     */
+    public TiledMap get(final String fileName) {
+        if (references.get(fileName, 0) <= 0) {
+            throw new GdxRuntimeException("Map " + fileName + " must be acquired before use");
+        }
+        if (!assetManager.isLoaded(fileName, TiledMap.class)) {
+            Gdx.app.log("WARN", "Room map " + fileName + " was not prefetched");
+        }
+        return assetManager.finishLoadingAsset(fileName);
+    }
+
+    /**
+     * Advances background loading. To be called once per frame
+     */
+    public void update() {
+        if (!assetManager.isFinished()) {
+            assetManager.update();
+        }
+    }
+
+    /**
+     * Unloads idle maps exceeding the budget
+     */
+    private void evictIdleMaps() {
+        while (idleMaps.size > MAX_IDLE_MAPS) {
+            final String fileName = idleMaps.removeIndex(0);
+            references.remove(fileName, 0);
+            assetManager.unload(fileName);
+        }
+    }
+
+    /**
+     * Unloads all the maps
+     */
+    public void dispose() {
+        for (ObjectIntMap.Entry<String> entry : references) {
+            assetManager.unload(entry.key);
+        }
+        references.clear();
+        idleMaps.clear();
+    }
+}
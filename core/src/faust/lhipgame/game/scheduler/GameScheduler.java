@@ -0,0 +1,170 @@
+package faust.lhipgame.game.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Objects;
+
+/**
+ * Game clock scheduler, implemented as a hashed timer wheel. Time is counted in
+ * fixed ticks on a long, so it advances only when the owner makes it tick and
+ * never loses precision. Tasks expiring on the same tick run in scheduling order.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class GameScheduler {
+
+    private static final int WHEEL_SIZE = 256; // Must be a power of two
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final float tickDuration;
+    private final ScheduledTask[] slotHeads = new ScheduledTask[WHEEL_SIZE];
+    private final ScheduledTask[] slotTails = new ScheduledTask[WHEEL_SIZE];
+
+    // Expired tasks of the current tick, reused
+    private final Array<ScheduledTask> dueTasks = new Array<>(false, 16, ScheduledTask.class);
+
+    private long currentTick = 0;
+    private float accumulator = 0;
+
+    /**
+     * @param tickDuration in seconds
+     */
+    public GameScheduler(float tickDuration) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Invalid tick duration " + tickDuration);
+        }
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * Schedules a task to run after a delay. If the task is already scheduled, it is rescheduled.
+     * The task runs at least one tick later
+     *
+     * @param task
+     * @param delay in seconds
+     */
+    public void schedule(final ScheduledTask task, float delay) {
+        Objects.requireNonNull(task);
+
+        if (task.isScheduled()) {
+            task.scheduler.cancel(task);
+        }
+        task.pendingRun = false;
+
+        task.deadlineTick = currentTick + Math.max(1, Math.round(delay / tickDuration));
+        task.scheduler = this;
+
+        // Append to slot, keeping scheduling order
+        final int slot = (int) (task.deadlineTick & WHEEL_MASK);
+        task.next = null;
+        task.previous = slotTails[slot];
+        if (Objects.isNull(slotTails[slot])) {
+            slotHeads[slot] = task;
+        } else {
+            slotTails[slot].next = task;
+        }
+        slotTails[slot] = task;
+    }
+
+    /**
+     * Cancels a task, if scheduled on this scheduler
+     *
+     * @param task
+     */
+    public void cancel(final ScheduledTask task) {
+        Objects.requireNonNull(task);
+
+        // Expired in the current tick but not run yet
+        task.pendingRun = false;
+
+        if (task.scheduler != this) {
+            return;
+        }
+
+        final int slot = (int) (task.deadlineTick & WHEEL_MASK);
+        if (Objects.isNull(task.previous)) {
+            slotHeads[slot] = task.next;
+        } else {
+            task.previous.next = task.next;
+        }
+        if (Objects.isNull(task.next)) {
+            slotTails[slot] = task.previous;
+        } else {
+            task.next.previous = task.previous;
+        }
+
+        task.previous = null;
+        task.next = null;
+        task.scheduler = null;
+    }
+
+    /**
+     * Advances the clock of one tick, running all the expired tasks
+     */
+    public void tick() {
+        currentTick++;
+
+        // Expired tasks are collected first, since running them may change the wheel
+        final int slot = (int) (currentTick & WHEEL_MASK);
+        ScheduledTask task = slotHeads[slot];
+        while (Objects.nonNull(task)) {
+            final ScheduledTask next = task.next;
+            if (task.deadlineTick <= currentTick) {
+                cancel(task);
+                task.pendingRun = true;
+                dueTasks.add(task);
+            }
+            task = next;
+        }
+
+        for (int i = 0; i < dueTasks.size; i++) {
+            final ScheduledTask dueTask = dueTasks.get(i);
+            // Skip if cancelled or rescheduled by a task run before
+            if (dueTask.pendingRun) {
+                dueTask.pendingRun = false;
+                dueTask.run();
+            }
+        }
+        dueTasks.clear();
+    }
+
+    /**
+     * Advances the clock of all the ticks elapsed in a frame
+     *
+     * @param delta frame time in seconds
+     */
+    public void advance(float delta) {
+        accumulator += delta;
+        while (accumulator >= tickDuration) {
+            tick();
+            accumulator -= tickDuration;
+        }
+    }
+
+    /**
+     * @param task
+     * @return seconds before the task runs, 0 if not scheduled
+     */
+    public float getRemainingTime(final ScheduledTask task) {
+        Objects.requireNonNull(task);
+
+        if (task.scheduler != this) {
+            return 0;
+        }
+        return (task.deadlineTick - currentTick) * tickDuration;
+    }
+
+    /**
+     * @return ticks elapsed since creation
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return seconds elapsed since creation
+     */
+    public double getTime() {
+        return currentTick * (double) tickDuration;
+    }
+}
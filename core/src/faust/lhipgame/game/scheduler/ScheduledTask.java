@@ -0,0 +1,38 @@
+package faust.lhipgame.game.scheduler;
+
+import java.util.Objects;
+
+/**
+ * Reusable handle of a timed action. It is meant to be created once by its owner
+ * and scheduled, cancelled and rescheduled on a GameScheduler without allocations
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class ScheduledTask {
+
+    private final Runnable action;
+
+    // Wheel bookkeeping, handled by the scheduler only
+    GameScheduler scheduler;
+    long deadlineTick;
+    ScheduledTask previous;
+    ScheduledTask next;
+    boolean pendingRun;
+
+    public ScheduledTask(final Runnable action) {
+        Objects.requireNonNull(action);
+
+        this.action = action;
+    }
+
+    /**
+     * @return true if the task is waiting to be run
+     */
+    public boolean isScheduled() {
+        return Objects.nonNull(scheduler);
+    }
+
+    void run() {
+        action.run();
+    }
+}
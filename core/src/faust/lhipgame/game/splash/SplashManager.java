@@ -3,10 +3,11 @@ package faust.lhipgame.game.splash;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.Timer;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.scheduler.GameScheduler;
+import faust.lhipgame.game.scheduler.ScheduledTask;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 
 import java.util.HashMap;
@@ -23,13 +24,16 @@ public class SplashManager {
     private final Map<String, Texture> splashScreens = new HashMap<>();
     private String splashToShow;
     private final TextBoxManager textManager;
-    private Timer.Task splashTimer;
+    private final GameScheduler uiScheduler;
+    private final ScheduledTask splashTask = new ScheduledTask(this::hideSplash);
 
-    public SplashManager(TextBoxManager textManager, AssetManager assetManager) {
+    public SplashManager(TextBoxManager textManager, AssetManager assetManager, GameScheduler uiScheduler) {
         Objects.requireNonNull(textManager);
         Objects.requireNonNull(assetManager);
+        Objects.requireNonNull(uiScheduler);
 
         this.textManager = textManager;
+        this.uiScheduler = uiScheduler;
 
         //Extract all splash screens
         JsonValue splash = new JsonReader().parse(Gdx.files.internal("splash/splashScreen.json")).get("splashScreens");
@@ -49,27 +53,28 @@ public class SplashManager {
         }
     }
 
-    public void drawSplash(SpriteBatch batch) {
-        Objects.requireNonNull(batch);
-        batch.begin();
-        batch.draw(this.splashScreens.get(splashToShow), 0, 0);
+    /**
+     * Submits current splash on the current layer of the queue
+     *
+     * @param queue
+     */
+    public void drawSplash(RenderQueue queue) {
+        Objects.requireNonNull(queue);
+        queue.submit(this.splashScreens.get(splashToShow), 0, 0);
 
         textManager.addNewTextBox(splashToShow);
 
         // Hide splashToShow after time
-        if(Objects.isNull(splashTimer)) {
-            splashTimer = Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    Gdx.app.log("DEBUG", "END splash timer");
-                    splashToShow = null;
-                    textManager.removeAllBoxes();
-                    splashTimer = null;
-                }
-            }, 1.5f);
+        if(!splashTask.isScheduled()) {
+            uiScheduler.schedule(splashTask, 1.5f);
             Gdx.app.log("DEBUG", "START splash timer" );
         }
-        batch.end();
+    }
+
+    private void hideSplash() {
+        Gdx.app.log("DEBUG", "END splash timer");
+        splashToShow = null;
+        textManager.removeAllBoxes();
     }
 
     public boolean isDrawingSplash() {
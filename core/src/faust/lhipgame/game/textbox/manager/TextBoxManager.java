@@ -4,15 +4,14 @@ package faust.lhipgame.game.textbox.manager;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.Timer;
 import faust.lhipgame.LHIPGame;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.scheduler.GameScheduler;
+import faust.lhipgame.game.scheduler.ScheduledTask;
 import faust.lhipgame.game.textbox.TextBoxData;
 
 import java.util.ArrayList;
@@ -34,13 +33,16 @@ public class TextBoxManager {
     private final List<TextBoxData> textBoxes = new ArrayList<>();
     private final JsonValue messageMap;
 
-    private final ShapeRenderer backgroundBox = new ShapeRenderer();
-    private final ShapeRenderer cornerBox = new ShapeRenderer();
     private static final Color corner = new Color(0xffffffff);
     private static final Color back = new Color(0x222222ff);
-    private Timer.Task currentTimer;
+    private final GameScheduler uiScheduler;
+    private final ScheduledTask hideTextBoxTask = new ScheduledTask(this::hideCurrentTextBox);
+    private TextBoxData currentTextBox;
 
-    public TextBoxManager(AssetManager assetManager) {
+    public TextBoxManager(AssetManager assetManager, GameScheduler uiScheduler) {
+        Objects.requireNonNull(uiScheduler);
+
+        this.uiScheduler = uiScheduler;
 
         // Prepare font
         mainFont = assetManager.get("fonts/main_font.fnt");
@@ -65,35 +67,28 @@ public class TextBoxManager {
             textBoxes.remove(0);
         }
 
-        if (Objects.nonNull(currentTimer)) {
-            currentTimer.cancel();
-            currentTimer = null;
-        }
-
         //Create text box given a textKey.
         TextBoxData newText = new TextBoxData(messageMap.getString(textKey));
         textBoxes.add(newText);
 
-        // Hide box after time
-        currentTimer = Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                if(!textBoxes.isEmpty()){
-                    textBoxes.remove(newText);
-                    currentTimer.cancel();
-                    currentTimer = null;
-                }
-            }
-        }, newText.getTimeToShow());
+        // Hide box after time, replacing the timer of the previous one
+        currentTextBox = newText;
+        uiScheduler.schedule(hideTextBoxTask, newText.getTimeToShow());
+    }
+
+    private void hideCurrentTextBox() {
+        if(!textBoxes.isEmpty()){
+            textBoxes.remove(currentTextBox);
+        }
+        currentTextBox = null;
     }
 
     /**
-     * Render all the generated (right now just one) text boxes
-     *  @param batch
+     * Submits all the generated (right now just one) text boxes on the current layer of the queue
+     *  @param queue
      * @param player
-     * @param camera
      */
-    public void renderTextBoxes(final SpriteBatch batch, PlayerInstance player, OrthographicCamera camera,boolean splashScreenIsDrawn) {
+    public void renderTextBoxes(final RenderQueue queue, PlayerInstance player, boolean splashScreenIsDrawn) {
 
         // Remove box if player is under a certain boundary and there is no splash screen
         //if(!splashScreenIsDrawn && player.getBody().getPosition().y <= TOTAL_TEXTBOX_HEIGHT){
@@ -116,25 +111,13 @@ public class TextBoxManager {
             fontY = twoline ? TOTAL_TEXTBOX_HEIGHT-8 : (TOTAL_TEXTBOX_HEIGHT/2)-6;
 
             //White Corner
-            batch.begin();
-            cornerBox.setColor(corner);
-            cornerBox.setProjectionMatrix(camera.combined);
-            cornerBox.begin(ShapeRenderer.ShapeType.Filled);
-            cornerBox.rect(0, 0, LHIPGame.GAME_WIDTH, outerBoxHeight);
-            cornerBox.end();
+            queue.submitRect(0, 0, LHIPGame.GAME_WIDTH, outerBoxHeight, corner);
 
             //Black Background
-            backgroundBox.setColor(back);
-            backgroundBox.setProjectionMatrix(camera.combined);
-            backgroundBox.begin(ShapeRenderer.ShapeType.Filled);
-            backgroundBox.rect(2, 2, LHIPGame.GAME_WIDTH-4, innerBoxHeight);
-            backgroundBox.end();
-            batch.end();
+            queue.submitRect(2, 2, LHIPGame.GAME_WIDTH-4, innerBoxHeight, back);
 
             //Text
-            batch.begin();
-            mainFont.draw(batch, box.getText(), 6, fontY);
-            batch.end();
+            queue.submitText(mainFont, box.getText(), 6, fontY);
         }
     }
 
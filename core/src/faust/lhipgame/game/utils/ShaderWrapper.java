@@ -4,21 +4,40 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 /**
- * Shader wrapper class
+ * Shader wrapper class. Uniforms must be declared once, then their values are
+ * cached and pushed to the program only when changed
  *
  * @author Jacopo "Faust" Buttiglieri
  */
 public class ShaderWrapper {
 
     private final ShaderProgram shaderProgram;
-    private final Map<String, Object> flags = new HashMap<>();
+    private final Array<Uniform> uniforms = new Array<>();
+    private boolean anyDirty = false;
+
+    /**
+     * Declared uniform, with its cached location and value
+     */
+    private static class Uniform {
+        private final String name;
+        private final int location;
+        private final boolean isFloat;
+        private int intValue;
+        private float floatValue;
+        private boolean dirty = true; // Force first push
+
+        private Uniform(String name, int location, boolean isFloat) {
+            this.name = name;
+            this.location = location;
+            this.isFloat = isFloat;
+        }
+    }
 
     /**
      * @param vertexShaderFile
@@ -38,35 +57,118 @@ public class ShaderWrapper {
     }
 
     /**
-     * Add flag
+     * Declares an int uniform, also used for boolean flags
+     *
+     * @param name of the uniform in the shader
+     * @return handle of the uniform
+     */
+    public int declareIntUniform(String name) {
+        return declareUniform(name, false);
+    }
+
+    /**
+     * Declares a float uniform
+     *
+     * @param name of the uniform in the shader
+     * @return handle of the uniform
      */
-    public void addFlag(String name, Object value){
+    public int declareFloatUniform(String name) {
+        return declareUniform(name, true);
+    }
+
+    private int declareUniform(String name, boolean isFloat) {
         Objects.requireNonNull(name);
-        Objects.requireNonNull(value);
-        flags.put(name,value);
+
+        // Location is resolved only once. Uniforms optimized out by the compiler are just ignored
+        final int location = shaderProgram.fetchUniformLocation(name, false);
+        if (location < 0) {
+            Gdx.app.log("WARN", "Uniform " + name + " not found in shader");
+        }
+
+        uniforms.add(new Uniform(name, location, isFloat));
+        anyDirty = true;
+
+        return uniforms.size - 1;
     }
 
     /**
-     * Initialize shader with set flags
-     * @param batch
+     * Sets an int uniform value, pushed on next setShaderOnBatch only if changed
      */
-    public void setShaderOnBatchWithFlags(SpriteBatch batch) {
+    public void setUniform(int handle, int value) {
+        Uniform uniform = getUniform(handle, false);
+        if (uniform.intValue != value) {
+            uniform.intValue = value;
+            uniform.dirty = true;
+            anyDirty = true;
+        }
+    }
 
-        shaderProgram.begin();
+    /**
+     * Sets an int uniform value as flag (1 is true, 0 false)
+     */
+    public void setUniform(int handle, boolean value) {
+        setUniform(handle, value ? 1 : 0);
+    }
 
-        flags.forEach((name, value) -> {
-            if (value instanceof Boolean) {
-                shaderProgram.setUniformi(name, ((Boolean) value) ? 1 : 0);
-            } else if (value instanceof Integer) {
-                shaderProgram.setUniformi(name, ((Integer) value));
-            } else {
-                throw new GdxRuntimeException("Invalid flag value for shader " + shaderProgram.getLog());
-            }
-        });
+    /**
+     * Sets a float uniform value, pushed on next setShaderOnBatch only if changed
+     */
+    public void setUniform(int handle, float value) {
+        Uniform uniform = getUniform(handle, true);
+        if (uniform.floatValue != value) {
+            uniform.floatValue = value;
+            uniform.dirty = true;
+            anyDirty = true;
+        }
+    }
 
-        shaderProgram.end();
+    private Uniform getUniform(int handle, boolean isFloat) {
+        Uniform uniform = uniforms.get(handle);
+        if (uniform.isFloat != isFloat) {
+            throw new GdxRuntimeException("Invalid value type for uniform " + uniform.name);
+        }
+        return uniform;
+    }
 
-        batch.setShader(shaderProgram);
+    /**
+     * Sets the shader on batch and pushes only the changed uniforms. If the batch is already drawing,
+     * the shader is bound by the batch itself and uniforms are set without restarting the program
+     * @param batch
+     */
+    public void setShaderOnBatch(SpriteBatch batch) {
+
+        if (batch.getShader() != shaderProgram) {
+            batch.setShader(shaderProgram);
+        } else if (anyDirty && batch.isDrawing()) {
+            // Pending sprites must be drawn with the old values
+            batch.flush();
+        }
+
+        if (!anyDirty) {
+            return;
+        }
+
+        final boolean mustBind = !batch.isDrawing();
+        if (mustBind) {
+            shaderProgram.begin();
+        }
+
+        for (int i = 0; i < uniforms.size; i++) {
+            Uniform uniform = uniforms.get(i);
+            if (uniform.dirty && uniform.location >= 0) {
+                if (uniform.isFloat) {
+                    shaderProgram.setUniformf(uniform.location, uniform.floatValue);
+                } else {
+                    shaderProgram.setUniformi(uniform.location, uniform.intValue);
+                }
+            }
+            uniform.dirty = false;
+        }
+        anyDirty = false;
+
+        if (mustBind) {
+            shaderProgram.end();
+        }
     }
 
     public ShaderProgram getShaderProgram() {
@@ -79,17 +181,14 @@ public class ShaderWrapper {
      * @param batch
      */
     public void resetDefaultShader(Batch batch) {
-
         batch.setShader(null);
-        shaderProgram.begin();
-        shaderProgram.end();
     }
 
     /**
      * Dispose
      */
     public void dispose(){
-        flags.clear();
+        uniforms.clear();
         shaderProgram.dispose();
     }
 }
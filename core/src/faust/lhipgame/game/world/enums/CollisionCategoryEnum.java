@@ -0,0 +1,27 @@
+package faust.lhipgame.game.world.enums;
+
+/**
+ * Collision category of each fixture. Which categories collide is declared in CollisionMatrix
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public enum CollisionCategoryEnum {
+    WALL,
+    POI,
+    DECORATION,
+    PASSABLE_DECORATION,
+    ECHO_ACTOR,
+    PLAYER,
+    PLAYER_HIT_BOX,
+    WALKING_ENEMY,
+    FLYING_ENEMY,
+    ROOTED_ENEMY,
+    ENEMY_HIT_BOX;
+
+    /**
+     * @return the Box2D category bit
+     */
+    public short getBits() {
+        return (short) (1 << ordinal());
+    }
+}
@@ -0,0 +1,19 @@
+package faust.lhipgame.game.world.enums;
+
+/**
+ * Tag stored as user data of each fixture, used for dispatching contacts
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public enum CollisionTagEnum {
+    PLAYER,
+    WALL,
+    POI,
+    DECORATION,
+    ECHO_ACTOR,
+    STRIX,
+    BOUNDED,
+    HIVE,
+    SPITTER,
+    HIT_BOX
+}
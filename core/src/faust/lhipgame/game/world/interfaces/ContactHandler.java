@@ -0,0 +1,13 @@
+package faust.lhipgame.game.world.interfaces;
+
+import faust.lhipgame.game.world.manager.ContactEvent;
+
+/**
+ * Handler of a recorded contact between two bodies, already ordered as registered
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public interface ContactHandler {
+
+    void handle(ContactEvent event);
+}
@@ -1,173 +1,152 @@
 package faust.lhipgame.game.world.manager;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import faust.lhipgame.game.gameentities.interfaces.Hurtable;
-import faust.lhipgame.game.instances.GameInstance;
 import faust.lhipgame.game.instances.interfaces.Interactable;
 import faust.lhipgame.game.instances.impl.*;
-import faust.lhipgame.game.rooms.areas.EmergedArea;
-
-import java.util.Objects;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
 
 /**
- * Class for handling all the collisions between GameInstances
+ * Class for handling all the collisions between GameInstances. Contacts are
+ * dispatched by the collision tags of the fixtures, player fixture is always the first.
+ * Contacts are only recorded during the world step, game state is changed when processContactEvents is called
  */
 public class CollisionManager implements ContactListener {
 
-    public static final int SOLID_GROUP = 1;
-    public static final int PLAYER_GROUP = 2;
-    public static final int ENEMY_GROUP = 4;
-    public static final int WEAPON_GROUP = 8;
+    private static final CollisionTagEnum[] ENEMY_TAGS = {
+            CollisionTagEnum.STRIX,
+            CollisionTagEnum.BOUNDED,
+            CollisionTagEnum.HIVE
+    };
 
-    @Override
-    public void beginContact(Contact contact) {
-        //FIXME
-        if (isContactOfClass(contact, PlayerInstance.class)) {
-            handlePlayerBeginContact(contact);
+    private final ContactDispatcher beginDispatcher = new ContactDispatcher();
+    private final ContactDispatcher endDispatcher = new ContactDispatcher();
+    // Shared by both dispatchers, so that begin and end events keep their order
+    private final ContactEventQueue eventQueue = new ContactEventQueue();
+
+    // Contacts in the world at last measure, and how many of them the collision matrix does not allow
+    private int lastContactCount = 0;
+    private int lastUnexpectedContactCount = 0;
+
+    public CollisionManager() {
+        beginDispatcher.register(CollisionTagEnum.PLAYER, CollisionTagEnum.DECORATION, this::handleDecorationBegin);
+        beginDispatcher.register(CollisionTagEnum.PLAYER, CollisionTagEnum.ECHO_ACTOR, this::handleEchoActorBegin);
+
+        endDispatcher.register(CollisionTagEnum.PLAYER, CollisionTagEnum.DECORATION, this::handleDecorationEnd);
+
+        for (CollisionTagEnum enemyTag : ENEMY_TAGS) {
+            beginDispatcher.register(CollisionTagEnum.PLAYER, enemyTag, this::handleEnemyCollisionEvent);
+            endDispatcher.register(CollisionTagEnum.PLAYER, enemyTag, this::handleEnemyCollisionEventEnd);
         }
+    }
 
+    @Override
+    public void beginContact(Contact contact) {
+        beginDispatcher.dispatch(contact, eventQueue);
     }
 
     @Override
     public void endContact(Contact contact) {
-        //FIXME
-        if (isContactOfClass(contact, PlayerInstance.class)) {
-            handlePlayerEndContact(contact);
-        }
+        endDispatcher.dispatch(contact, eventQueue);
+    }
 
+    /**
+     * Handles all contacts recorded since last call, in the order they happened.
+     * Must be called outside the world step
+     */
+    public void processContactEvents() {
+        eventQueue.drain();
+    }
+
+    public ContactEventQueue getEventQueue() {
+        return eventQueue;
     }
 
     /**
-     * Handleing player contact start
+     * Counts the contacts that reached the narrowphase, checking that each one is
+     * between categories allowed by the CollisionMatrix. Walks all the contacts, use only for profiling
      *
-     * @param contact
+     * @param world
      */
-    private void handlePlayerBeginContact(Contact contact) {
-        // Handle emerged area begin
-        if (isContactOfClass(contact, EmergedArea.class)) {
-            //Player emerges from water
-            PlayerInstance pInst = ((PlayerInstance) getCorrectFixture(contact, PlayerInstance.class).getBody().getUserData());
-            pInst.setSubmerged(false);
+    public void measureContacts(final World world) {
+        final Array<Contact> contacts = world.getContactList();
+
+        int unexpected = 0;
+        for (int i = 0; i < contacts.size; i++) {
+            final short firstCategory = contacts.get(i).getFixtureA().getFilterData().categoryBits;
+            final short secondCategory = contacts.get(i).getFixtureB().getFilterData().categoryBits;
+            if (!CollisionMatrix.canCollide(firstCategory, secondCategory)) {
+                unexpected++;
+            }
         }
 
-        // Handle Decoration Collision
-        if (isContactOfClass(contact, DecorationInstance.class)) {
-            //If decoration is passable, just do and Interaction. Else stop the player
-            DecorationInstance decorationInstance = ((DecorationInstance) getCorrectFixture(contact, DecorationInstance.class).getBody().getUserData());
-            PlayerInstance playerInstance = ((PlayerInstance) getCorrectFixture(contact, PlayerInstance.class).getBody().getUserData());
-            if (decorationInstance.isPassable())
-                decorationInstance.doPlayerInteraction(playerInstance);
-            else
-                playerInstance.stopAll();
+        if (unexpected > 0 && unexpected != lastUnexpectedContactCount) {
+            Gdx.app.log("WARN", unexpected + " contacts between categories not allowed by the collision matrix");
         }
+        lastContactCount = contacts.size;
+        lastUnexpectedContactCount = unexpected;
+    }
 
-        // Handle Strix Collision
-        if (isContactOfClass(contact, StrixInstance.class)) {
-            handleEnemyCollisionEvent(contact, StrixInstance.class);
-        }
+    public int getLastContactCount() {
+        return lastContactCount;
+    }
 
-        // Handle Bounded Collision
-        if (isContactOfClass(contact, BoundedInstance.class)) {
-            handleEnemyCollisionEvent(contact, BoundedInstance.class);
-        }
+    public int getLastUnexpectedContactCount() {
+        return lastUnexpectedContactCount;
+    }
 
-        // Handle Hive Collision
-        if (isContactOfClass(contact, HiveInstance.class)) {
-            handleEnemyCollisionEvent(contact, HiveInstance.class);
-        }
+    /**
+     * If decoration is passable, just do and Interaction. Else stop the player
+     */
+    private void handleDecorationBegin(ContactEvent event) {
+        DecorationInstance decorationInstance = (DecorationInstance) event.getSecondUserData();
+        PlayerInstance playerInstance = (PlayerInstance) event.getFirstUserData();
+        if (decorationInstance.isPassable())
+            decorationInstance.doPlayerInteraction(playerInstance);
+        else
+            playerInstance.stopAll();
+    }
 
-        // Handle Dead hand Collision
-        if (isContactOfClass(contact, EchoActorInstance.class) ) {
-            EchoActorInstance echoActorInstance = ((EchoActorInstance) getCorrectFixture(contact, EchoActorInstance.class).getBody().getUserData());
-            PlayerInstance playerInstance = ((PlayerInstance) getCorrectFixture(contact, PlayerInstance.class).getBody().getUserData());
-            echoActorInstance.doPlayerInteraction(playerInstance);
-        }
+    /**
+     * If decoration is passable, just end interaction
+     */
+    private void handleDecorationEnd(ContactEvent event) {
+        DecorationInstance inst = (DecorationInstance) event.getSecondUserData();
+        if (inst.isPassable())
+            inst.endPlayerInteraction((PlayerInstance) event.getFirstUserData());
     }
 
     /**
-     * Global handler for player and enemy instances collision
-     * @param contact
-     * @param enemyGameInstanceClass
-     * @param <T> an Interactable and Killable instance, usually enemy
+     * Handle Dead hand Collision
      */
-    private <T extends Interactable & Hurtable> void handleEnemyCollisionEvent(Contact contact, Class<T> enemyGameInstanceClass) {
-
-        //Get enemy data
-        Fixture enemyInstanceFixture = getCorrectFixture(contact, enemyGameInstanceClass);
-        Body enemyInstanceBody = enemyInstanceFixture.getBody();
-        T enemyInstance = (T) enemyInstanceBody.getUserData();
-
-        //Get player data
-        Body playerBody = getCorrectFixture(contact, PlayerInstance.class).getBody();
-        PlayerInstance playerInstance = (PlayerInstance) playerBody.getUserData();
-
-        if (BodyDef.BodyType.DynamicBody.equals(enemyInstanceBody.getType()) && BodyDef.BodyType.DynamicBody.equals(playerBody.getType())) {
-            // Colliding with player,
-            enemyInstance.doPlayerInteraction(playerInstance);
-        } else if (BodyDef.BodyType.DynamicBody.equals(enemyInstanceBody.getType()) && BodyDef.BodyType.KinematicBody.equals(playerBody.getType())) {
-            // Enemy hurt by player
-            enemyInstance.hurt(playerInstance);
-        }else if (BodyDef.BodyType.KinematicBody.equals(enemyInstanceBody.getType()) && BodyDef.BodyType.DynamicBody.equals(playerBody.getType())) {
-            // Player hurt by enemy
-            playerInstance.hurt((GameInstance) enemyInstance);
-        }
+    private void handleEchoActorBegin(ContactEvent event) {
+        EchoActorInstance echoActorInstance = (EchoActorInstance) event.getSecondUserData();
+        echoActorInstance.doPlayerInteraction((PlayerInstance) event.getFirstUserData());
     }
 
     /**
-     * Handling Player contact end
+     * Global handler for player and enemy instances collision. Attacks are not
+     * contacts, they are resolved by hit queries during instances logic
      *
-     * @param contact
+     * @param event second body is an Interactable and Hurtable instance, usually enemy
      */
-    private void handlePlayerEndContact(Contact contact) {
-        // Handle emerged area end
-        if (isContactOfClass(contact, EmergedArea.class)) {
-            //Player submerges in water
-            PlayerInstance pInst = ((PlayerInstance) getCorrectFixture(contact, PlayerInstance.class).getBody().getUserData());
-            pInst.setSubmerged(true);
-        }
-
-        // Handle Decoration Collision end
-        if (isContactOfClass(contact, DecorationInstance.class)) {
-            //If decoration is passable, just end interaction
-            DecorationInstance inst = ((DecorationInstance) getCorrectFixture(contact, DecorationInstance.class).getBody().getUserData());
-            PlayerInstance pInst = ((PlayerInstance) getCorrectFixture(contact, PlayerInstance.class).getBody().getUserData());
-            if (inst.isPassable())
-                inst.endPlayerInteraction(pInst);
-        }
-
-        // Handle Strix Collision end
-        if (isContactOfClass(contact, StrixInstance.class)) {
-            handleEnemyCollisionEventEnd(contact, StrixInstance.class);
-        }
-
-        // Handle Bounded Collision end
-        if (isContactOfClass(contact, BoundedInstance.class)) {
-            handleEnemyCollisionEventEnd(contact, BoundedInstance.class);
-        }
-
-        // Handle Hibe Collision end
-        if (isContactOfClass(contact, HiveInstance.class)) {
-            handleEnemyCollisionEventEnd(contact, HiveInstance.class);
-        }
+    private <T extends Interactable & Hurtable> void handleEnemyCollisionEvent(ContactEvent event) {
+        // Colliding with player
+        T enemyInstance = (T) event.getSecondUserData();
+        enemyInstance.doPlayerInteraction((PlayerInstance) event.getFirstUserData());
     }
 
     /**
-     * Global handler for player and enemy instances collision
-     * @param contact
-     * @param enemyGameInstanceClass
-     * @param <T> an Interactable and Killable instance, usually enemy
+     * Global handler for player and enemy instances collision end
+     *
+     * @param event second body is an Interactable and Hurtable instance, usually enemy
      */
-    private <T extends Interactable & Hurtable> void handleEnemyCollisionEventEnd(Contact contact, Class<T>  enemyGameInstanceClass) {
+    private <T extends Interactable & Hurtable> void handleEnemyCollisionEventEnd(ContactEvent event) {
         //Just free the player from leech grapple
-        Body enemyBody = getCorrectFixture(contact,enemyGameInstanceClass).getBody();
-        T sInst = (T) enemyBody.getUserData();
-
-        Body playerBody = getCorrectFixture(contact, PlayerInstance.class).getBody();
-        PlayerInstance pInst = (PlayerInstance) playerBody.getUserData();
-
-        if (BodyDef.BodyType.DynamicBody.equals(enemyBody.getType()) && BodyDef.BodyType.DynamicBody.equals(playerBody.getType())) {
-            sInst.endPlayerInteraction(pInst);
-        }
+        T sInst = (T) event.getSecondUserData();
+        sInst.endPlayerInteraction((PlayerInstance) event.getFirstUserData());
     }
 
     @Override
@@ -178,35 +157,4 @@ public class CollisionManager implements ContactListener {
     @Override
     public void postSolve(Contact contact, ContactImpulse impulse) {
     }
-
-    /**
-     * Check if this contact is of a particular Instance
-     *
-     * @param contact
-     * @param gameInstanceClass the class of the GameInstance to check
-     * @param <T>               the class of the GameInstance to check
-     * @return
-     */
-    private <T> boolean isContactOfClass(Contact contact, Class<T> gameInstanceClass) {
-        Objects.requireNonNull(contact.getFixtureA().getBody().getUserData());
-        Objects.requireNonNull(contact.getFixtureB().getBody().getUserData());
-
-        return contact.getFixtureA().getBody().getUserData().getClass().equals(gameInstanceClass) ||
-                contact.getFixtureB().getBody().getUserData().getClass().equals(gameInstanceClass);
-    }
-
-    /**
-     * Extract from a contact the fixture of the GameInstance
-     *
-     * @param contact
-     * @param gameInstanceClass the class of the GameInstance fixture to extract
-     * @param <T>
-     * @return
-     */
-    private <T> Fixture getCorrectFixture(Contact contact, Class<T> gameInstanceClass) {
-        if (contact.getFixtureA().getBody().getUserData().getClass().equals(gameInstanceClass))
-            return contact.getFixtureA();
-
-        return contact.getFixtureB();
-    }
 }
@@ -0,0 +1,66 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+
+import java.util.Objects;
+
+/**
+ * Declares which collision categories can collide. Every fixture gets category and mask
+ * from here, so that Box2D never creates contacts for pairs no one cares about.
+ * Pairs are symmetric, each one is declared once
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public final class CollisionMatrix {
+
+    private static final short[] masks = new short[CollisionCategoryEnum.values().length];
+
+    static {
+        // Player is blocked by solids and interacts with decorations, echo actors, flying and rooted enemies
+        allow(CollisionCategoryEnum.PLAYER, CollisionCategoryEnum.WALL);
+        allow(CollisionCategoryEnum.PLAYER, CollisionCategoryEnum.DECORATION);
+        allow(CollisionCategoryEnum.PLAYER, CollisionCategoryEnum.PASSABLE_DECORATION);
+        allow(CollisionCategoryEnum.PLAYER, CollisionCategoryEnum.ECHO_ACTOR);
+        allow(CollisionCategoryEnum.PLAYER, CollisionCategoryEnum.FLYING_ENEMY);
+        allow(CollisionCategoryEnum.PLAYER, CollisionCategoryEnum.ROOTED_ENEMY);
+
+        // Walking enemies are blocked by solids only
+        allow(CollisionCategoryEnum.WALKING_ENEMY, CollisionCategoryEnum.WALL);
+        allow(CollisionCategoryEnum.WALKING_ENEMY, CollisionCategoryEnum.DECORATION);
+
+        // POI and hit boxes collide with nothing, they are found by queries
+    }
+
+    private CollisionMatrix() {
+    }
+
+    private static void allow(CollisionCategoryEnum first, CollisionCategoryEnum second) {
+        masks[first.ordinal()] |= second.getBits();
+        masks[second.ordinal()] |= first.getBits();
+    }
+
+    /**
+     * Sets category and mask of a fixture filter
+     *
+     * @param filter
+     * @param category
+     */
+    public static void apply(final Filter filter, final CollisionCategoryEnum category) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(category);
+
+        filter.categoryBits = category.getBits();
+        filter.maskBits = masks[category.ordinal()];
+    }
+
+    /**
+     * @param firstBits  category bits of a fixture
+     * @param secondBits category bits of another fixture
+     * @return true if the matrix allows the two fixtures to collide
+     */
+    public static boolean canCollide(short firstBits, short secondBits) {
+        final int firstIndex = Integer.numberOfTrailingZeros(firstBits & 0xFFFF);
+        return firstIndex < masks.length && (masks[firstIndex] & secondBits) != 0;
+    }
+}
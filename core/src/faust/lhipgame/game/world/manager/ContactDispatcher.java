@@ -0,0 +1,79 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+import faust.lhipgame.game.world.interfaces.ContactHandler;
+
+import java.util.Objects;
+
+/**
+ * Table of contact handlers indexed by the collision tags of the two fixtures.
+ * Each contact is resolved with a single lookup, whatever the number of registered pairs.
+ * Handlers are never called inside Box2D callbacks, their events are queued instead.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class ContactDispatcher {
+
+    private static final int TAGS_COUNT = CollisionTagEnum.values().length;
+
+    private final ContactHandler[][] handlers = new ContactHandler[TAGS_COUNT][TAGS_COUNT];
+    // True if fixtures must be swapped before calling the handler
+    private final boolean[][] swapped = new boolean[TAGS_COUNT][TAGS_COUNT];
+
+    /**
+     * Registers the handler of a pair of tags. The handler always receives
+     * the fixture tagged as first before the one tagged as second
+     *
+     * @param first
+     * @param second
+     * @param handler
+     */
+    public void register(CollisionTagEnum first, CollisionTagEnum second, ContactHandler handler) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        Objects.requireNonNull(handler);
+
+        handlers[first.ordinal()][second.ordinal()] = handler;
+        swapped[first.ordinal()][second.ordinal()] = false;
+
+        if (first != second) {
+            handlers[second.ordinal()][first.ordinal()] = handler;
+            swapped[second.ordinal()][first.ordinal()] = true;
+        }
+    }
+
+    /**
+     * Records in the queue an event for the handler registered for the
+     * fixtures of the contact, if any. The handler is called when the queue is drained
+     *
+     * @param contact
+     * @param queue
+     */
+    public void dispatch(Contact contact, ContactEventQueue queue) {
+        final Fixture fixtureA = contact.getFixtureA();
+        final Fixture fixtureB = contact.getFixtureB();
+        final Object tagA = fixtureA.getUserData();
+        final Object tagB = fixtureB.getUserData();
+
+        // Untagged fixtures are ignored
+        if (!(tagA instanceof CollisionTagEnum) || !(tagB instanceof CollisionTagEnum)) {
+            return;
+        }
+
+        final int a = ((CollisionTagEnum) tagA).ordinal();
+        final int b = ((CollisionTagEnum) tagB).ordinal();
+        final ContactHandler handler = handlers[a][b];
+
+        if (Objects.isNull(handler)) {
+            return;
+        }
+
+        if (swapped[a][b]) {
+            queue.push(handler, fixtureB, fixtureA);
+        } else {
+            queue.push(handler, fixtureA, fixtureB);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import faust.lhipgame.game.world.interfaces.ContactHandler;
+
+/**
+ * Contact recorded during the world step, handled after it. Holds only the body user
+ * data and type, since fixtures and bodies may be destroyed before the event is handled.
+ * Events are pooled by the ContactEventQueue and reused.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class ContactEvent {
+
+    private ContactHandler handler;
+    private Object firstUserData;
+    private BodyDef.BodyType firstBodyType;
+    private Object secondUserData;
+    private BodyDef.BodyType secondBodyType;
+
+    void set(ContactHandler handler, Fixture first, Fixture second) {
+        this.handler = handler;
+        this.firstUserData = first.getBody().getUserData();
+        this.firstBodyType = first.getBody().getType();
+        this.secondUserData = second.getBody().getUserData();
+        this.secondBodyType = second.getBody().getType();
+    }
+
+    void reset() {
+        handler = null;
+        firstUserData = null;
+        firstBodyType = null;
+        secondUserData = null;
+        secondBodyType = null;
+    }
+
+    /**
+     * @return true if the other event would have the same effect
+     */
+    boolean isSameAs(ContactEvent other) {
+        return handler == other.handler &&
+                firstUserData == other.firstUserData &&
+                firstBodyType == other.firstBodyType &&
+                secondUserData == other.secondUserData &&
+                secondBodyType == other.secondBodyType;
+    }
+
+    ContactHandler getHandler() {
+        return handler;
+    }
+
+    public Object getFirstUserData() {
+        return firstUserData;
+    }
+
+    public BodyDef.BodyType getFirstBodyType() {
+        return firstBodyType;
+    }
+
+    public Object getSecondUserData() {
+        return secondUserData;
+    }
+
+    public BodyDef.BodyType getSecondBodyType() {
+        return secondBodyType;
+    }
+}
@@ -0,0 +1,109 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+import faust.lhipgame.game.world.interfaces.ContactHandler;
+
+/**
+ * Ring buffer of preallocated contact events. Events are recorded while the
+ * world is stepping and handled in order, once, when the queue is drained.
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class ContactEventQueue {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private ContactEvent[] events = new ContactEvent[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    // Stats of last drain
+    private int lastHandledCount = 0;
+    private int lastCoalescedCount = 0;
+
+    public ContactEventQueue() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new ContactEvent();
+        }
+    }
+
+    /**
+     * Records a contact event
+     *
+     * @param handler handler to call on drain
+     * @param first   first fixture, as expected by the handler
+     * @param second  second fixture, as expected by the handler
+     */
+    public void push(ContactHandler handler, Fixture first, Fixture second) {
+        if (size == events.length) {
+            grow();
+        }
+        events[(head + size) % events.length].set(handler, first, second);
+        size++;
+    }
+
+    /**
+     * Handles all the recorded events in order. An event equal to one already
+     * handled in the same drain is coalesced and skipped
+     */
+    public void drain() {
+        int handled = 0;
+        int coalesced = 0;
+
+        for (int i = 0; i < size; i++) {
+            final ContactEvent event = events[(head + i) % events.length];
+
+            if (isDuplicate(event, i)) {
+                coalesced++;
+            } else {
+                event.getHandler().handle(event);
+                handled++;
+            }
+        }
+
+        // Events are reset only after handling, since duplicates are searched among them
+        for (int i = 0; i < size; i++) {
+            events[(head + i) % events.length].reset();
+        }
+        head = 0;
+        size = 0;
+
+        lastHandledCount = handled;
+        lastCoalescedCount = coalesced;
+    }
+
+    /**
+     * @return true if an event before the one at position is the same
+     */
+    private boolean isDuplicate(ContactEvent event, int position) {
+        for (int j = 0; j < position; j++) {
+            if (events[(head + j) % events.length].isSameAs(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Doubles the capacity, keeping the events order
+     */
+    private void grow() {
+        final ContactEvent[] newEvents = new ContactEvent[events.length * 2];
+        for (int i = 0; i < size; i++) {
+            newEvents[i] = events[(head + i) % events.length];
+        }
+        for (int i = size; i < newEvents.length; i++) {
+            newEvents[i] = new ContactEvent();
+        }
+        events = newEvents;
+        head = 0;
+    }
+
+    public int getLastHandledCount() {
+        return lastHandledCount;
+    }
+
+    public int getLastCoalescedCount() {
+        return lastCoalescedCount;
+    }
+}
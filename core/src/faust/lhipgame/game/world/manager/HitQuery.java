@@ -0,0 +1,62 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import faust.lhipgame.game.gameentities.interfaces.Hurtable;
+import faust.lhipgame.game.instances.GameInstance;
+import faust.lhipgame.game.world.enums.CollisionCategoryEnum;
+import faust.lhipgame.game.world.enums.CollisionTagEnum;
+
+import java.util.Objects;
+
+/**
+ * Finds the Hurtable instances whose hit box fixture overlaps an area, with a single
+ * AABB query on the world. Results are valid until the next query
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class HitQuery implements QueryCallback {
+
+    private final Array<GameInstance> results = new Array<>();
+    private GameInstance attacker;
+    private int targetCategoryBits;
+
+    /**
+     * @param world       the world to query
+     * @param attacker    instance excluded from results
+     * @param area        area to query
+     * @param target      category of the hit boxes to find
+     * @return the instances hit, each one only once
+     */
+    public Array<GameInstance> query(final World world, final GameInstance attacker, final Rectangle area, final CollisionCategoryEnum target) {
+        Objects.requireNonNull(world);
+        Objects.requireNonNull(area);
+        Objects.requireNonNull(target);
+
+        this.results.clear();
+        this.attacker = attacker;
+        this.targetCategoryBits = target.getBits();
+        world.QueryAABB(this, area.x, area.y, area.x + area.width, area.y + area.height);
+        this.attacker = null;
+
+        return results;
+    }
+
+    @Override
+    public boolean reportFixture(Fixture fixture) {
+        final Object instance = fixture.getBody().getUserData();
+
+        if (CollisionTagEnum.HIT_BOX.equals(fixture.getUserData()) &&
+                (fixture.getFilterData().categoryBits & targetCategoryBits) != 0 &&
+                instance != attacker &&
+                instance instanceof Hurtable &&
+                !results.contains((GameInstance) instance, true)) {
+            results.add((GameInstance) instance);
+        }
+        // Keep searching
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Shared box shapes used for fixture definitions. Box2D copies the shape when a fixture
+ * is created, so the same prototype can be used by every instance of the same kind
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public final class ShapePrototypes {
+
+    private static final Array<Prototype> prototypes = new Array<>();
+    private static final Vector2 center = new Vector2();
+
+    private ShapePrototypes() {
+    }
+
+    /**
+     * @return a box shape centered on the body origin
+     */
+    public static PolygonShape box(float halfWidth, float halfHeight) {
+        return box(halfWidth, halfHeight, 0, 0);
+    }
+
+    /**
+     * @return a box shape centered on (centerX, centerY) in body coordinates
+     */
+    public static PolygonShape box(float halfWidth, float halfHeight, float centerX, float centerY) {
+
+        for (Prototype prototype : prototypes) {
+            if (prototype.matches(halfWidth, halfHeight, centerX, centerY)) {
+                return prototype.shape;
+            }
+        }
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfWidth, halfHeight, center.set(centerX, centerY), 0);
+        prototypes.add(new Prototype(halfWidth, halfHeight, centerX, centerY, shape));
+        return shape;
+    }
+
+    /**
+     * Disposes all the prototypes. They will be recreated on next use
+     */
+    public static void dispose() {
+        prototypes.forEach(p -> p.shape.dispose());
+        prototypes.clear();
+    }
+
+    private static class Prototype {
+        private final float halfWidth;
+        private final float halfHeight;
+        private final float centerX;
+        private final float centerY;
+        private final PolygonShape shape;
+
+        private Prototype(float halfWidth, float halfHeight, float centerX, float centerY, PolygonShape shape) {
+            this.halfWidth = halfWidth;
+            this.halfHeight = halfHeight;
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.shape = shape;
+        }
+
+        private boolean matches(float halfWidth, float halfHeight, float centerX, float centerY) {
+            return this.halfWidth == halfWidth && this.halfHeight == halfHeight &&
+                    this.centerX == centerX && this.centerY == centerY;
+        }
+    }
+}
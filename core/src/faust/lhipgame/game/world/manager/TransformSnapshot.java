@@ -0,0 +1,152 @@
+package faust.lhipgame.game.world.manager;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import faust.lhipgame.game.instances.GameInstance;
+
+import java.util.Objects;
+
+/**
+ * Positions and velocities of the bodies in the world, copied from Box2D once after each step
+ * so that game logic, sorting and rendering never read them from the native side.
+ * Keeps both the previous and the current position of each body for render interpolation.
+ * Each instance in the world has a slot, assigned on insertion
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class TransformSnapshot {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private GameInstance[] instances = new GameInstance[INITIAL_CAPACITY];
+    private boolean[] moving = new boolean[INITIAL_CAPACITY];
+    private float[] previousX = new float[INITIAL_CAPACITY];
+    private float[] previousY = new float[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] velocityX = new float[INITIAL_CAPACITY];
+    private float[] velocityY = new float[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds an instance with a body to the snapshot, capturing its current state
+     *
+     * @param instance
+     */
+    public void add(final GameInstance instance) {
+        Objects.requireNonNull(instance);
+        final Body body = Objects.requireNonNull(instance.getBody());
+
+        if (size == instances.length) {
+            grow();
+        }
+
+        final int slot = size++;
+        instances[slot] = instance;
+        // Static bodies are never moved by the step, no need to copy them again
+        moving[slot] = !BodyDef.BodyType.StaticBody.equals(body.getType());
+        final Vector2 position = body.getPosition();
+        x[slot] = position.x;
+        y[slot] = position.y;
+        previousX[slot] = position.x;
+        previousY[slot] = position.y;
+        final Vector2 velocity = body.getLinearVelocity();
+        velocityX[slot] = velocity.x;
+        velocityY[slot] = velocity.y;
+
+        instance.setSnapshotSlot(this, slot);
+    }
+
+    /**
+     * Copies position and velocity of all moving bodies, keeping the old position as the previous one.
+     * To be called right after each world step
+     */
+    public void capture() {
+        for (int i = 0; i < size; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+
+            if (!moving[i]) {
+                continue;
+            }
+
+            // Returned vectors are reused by Box2D wrappers, values are copied at once
+            final Body body = instances[i].getBody();
+            final Vector2 position = body.getPosition();
+            x[i] = position.x;
+            y[i] = position.y;
+            final Vector2 velocity = body.getLinearVelocity();
+            velocityX[i] = velocity.x;
+            velocityY[i] = velocity.y;
+        }
+    }
+
+    /**
+     * Removes all instances. Their state must not be read until they are added again
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            instances[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Keeps the snapshot in sync when game logic sets a velocity between steps
+     */
+    public void setVelocity(int slot, float velocityX, float velocityY) {
+        this.velocityX[slot] = velocityX;
+        this.velocityY[slot] = velocityY;
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    public float getPreviousX(int slot) {
+        return previousX[slot];
+    }
+
+    public float getPreviousY(int slot) {
+        return previousY[slot];
+    }
+
+    public float getVelocityX(int slot) {
+        return velocityX[slot];
+    }
+
+    public float getVelocityY(int slot) {
+        return velocityY[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        final int capacity = instances.length * 2;
+        final GameInstance[] newInstances = new GameInstance[capacity];
+        System.arraycopy(instances, 0, newInstances, 0, size);
+        instances = newInstances;
+        final boolean[] newMoving = new boolean[capacity];
+        System.arraycopy(moving, 0, newMoving, 0, size);
+        moving = newMoving;
+        previousX = grow(previousX, capacity);
+        previousY = grow(previousY, capacity);
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        velocityX = grow(velocityX, capacity);
+        velocityY = grow(velocityY, capacity);
+    }
+
+    private float[] grow(float[] array, int capacity) {
+        final float[] newArray = new float[capacity];
+        System.arraycopy(array, 0, newArray, 0, size);
+        return newArray;
+    }
+}
@@ -11,8 +11,8 @@ import faust.lhipgame.game.instances.impl.DecorationInstance;
 import faust.lhipgame.game.instances.impl.EchoActorInstance;
 import faust.lhipgame.game.instances.impl.POIInstance;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
-import faust.lhipgame.game.rooms.areas.EmergedArea;
-import faust.lhipgame.game.rooms.areas.WallArea;
+import faust.lhipgame.game.rooms.areas.RoomGeometry;
+import faust.lhipgame.game.scheduler.GameScheduler;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,22 +24,48 @@ import java.util.Objects;
  * @author Jacopo "Faust" Buttiglieri
  */
 public class WorldManager {
-    private static final float TIME_STEP = 1 / 60f;
+    public static final float TIME_STEP = 1 / 60f;
     private static final int VELOCITY_ITERATIONS = 8;
     private static final int POSITION_ITERATIONS = 3;
 
     private final World world;
+    private final CollisionManager collisionManager;
+    // Game clock, ticks once per logic step
+    private final GameScheduler scheduler = new GameScheduler(TIME_STEP);
+    // Body positions and velocities, copied once per step
+    private final TransformSnapshot snapshot = new TransformSnapshot();
 
     public WorldManager() {
         this.world = new World(new Vector2(0, 0), true);
-        world.setContactListener(new CollisionManager());
+        this.collisionManager = new CollisionManager();
+        world.setContactListener(collisionManager);
     }
 
     /**
-     * Makes the world step to next
+     * Makes the world step to next and takes the snapshot of the bodies, then handles
+     * the contacts recorded during the step (and during bodies destruction before it)
      */
     public void doStep() {
         world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        snapshot.capture();
+        collisionManager.processContactEvents();
+    }
+
+    /**
+     * Measures the contacts currently in the world, for profiling
+     *
+     * @see CollisionManager#measureContacts(World)
+     */
+    public void measureContacts() {
+        collisionManager.measureContacts(world);
+    }
+
+    public GameScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
     }
 
     public World getWorld() {
@@ -48,6 +74,7 @@ public class WorldManager {
 
     public void dispose() {
         world.dispose();
+        ShapePrototypes.dispose();
     }
 
     /**
@@ -56,28 +83,19 @@ public class WorldManager {
      * @param playerInstance
      * @param x
      * @param y
+     * @param horizontalVelocity linear velocity to restore on the new body
+     * @param verticalVelocity   linear velocity to restore on the new body
      */
-    public void insertPlayerIntoWorld(final PlayerInstance playerInstance, float x, float y) {
+    public void insertPlayerIntoWorld(final PlayerInstance playerInstance, float x, float y, float horizontalVelocity, float verticalVelocity) {
         Objects.requireNonNull(playerInstance);
 
-        Float horizontalVelocity = null;
-        Float verticalVelocity = null;
-
-        // If player has already a linear velocity, restore after body
-        if (!Objects.isNull(playerInstance.getBody())) {
-            horizontalVelocity = playerInstance.getBody().getLinearVelocity().x;
-            verticalVelocity = playerInstance.getBody().getLinearVelocity().y;
-        }
-
         // Insert into world generating new body
         this.insertIntoWorld(playerInstance, x, y);
 
         playerInstance.setStartX(0);
         playerInstance.setStartY(0);
 
-        if (!Objects.isNull(verticalVelocity) || !Objects.isNull(horizontalVelocity)) {
-            playerInstance.getBody().setLinearVelocity(horizontalVelocity,verticalVelocity);
-        }
+        playerInstance.setLinearVelocity(horizontalVelocity, verticalVelocity);
     }
 
     /**
@@ -90,6 +108,9 @@ public class WorldManager {
     private void insertIntoWorld(final GameInstance instance, float x, float y) {
         Objects.requireNonNull(instance);
         instance.createBody(this.world, x, y);
+        snapshot.add(instance);
+        instance.resetInterpolation();
+        instance.setScheduler(scheduler);
     }
 
     /**
@@ -127,6 +148,7 @@ public class WorldManager {
         bodies.forEach((body) -> {
             this.world.destroyBody(body);
         });
+        snapshot.clear();
     }
 
     /**
@@ -143,27 +165,13 @@ public class WorldManager {
     }
 
     /**
-     * Insert static walls into world
-     * @param wallList
+     * Insert static walls and emerged areas of the room into world
+     * @param roomGeometry
      */
-    public void insertWallsIntoWorld(List<WallArea> wallList) {
-        Objects.requireNonNull(wallList);
-
-        wallList.forEach((w) -> {
-            w.createBody(this.world);
-        });
-    }
+    public void insertRoomGeometryIntoWorld(RoomGeometry roomGeometry) {
+        Objects.requireNonNull(roomGeometry);
 
-    /**
-     * Insert static emerged areas into world
-     * @param areasList
-     */
-    public void insertEmergedAreasIntoWorld(List<EmergedArea> areasList) {
-        Objects.requireNonNull(areasList);
-
-        areasList.forEach((a) -> {
-            a.createBody(this.world);
-        });
+        roomGeometry.createBody(this.world);
     }
 
     /**
@@ -174,7 +182,7 @@ public class WorldManager {
         Objects.requireNonNull(echoActors);
 
         echoActors.forEach((a) -> {
-            a.createBody(this.world, a.getStartX(), a.getStartY());
+            this.insertIntoWorld(a, a.getStartX(), a.getStartY());
         });
     }
 }
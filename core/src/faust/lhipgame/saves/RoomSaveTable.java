@@ -0,0 +1,94 @@
+package faust.lhipgame.saves;
+
+import faust.lhipgame.game.rooms.RoomCoord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Save entries of the visited rooms, stored in a flat array with a slot for each
+ * room of the main world. Lookups are a single array access
+ *
+ * @author Jacopo "Faust" Buttiglieri
+ */
+public class RoomSaveTable {
+
+    private final int worldWidth;
+    private final int worldHeight;
+    private final RoomSaveEntry[] entries;
+    private int size = 0;
+
+    public RoomSaveTable(int worldWidth, int worldHeight) {
+        if (worldWidth <= 0 || worldHeight <= 0) {
+            throw new IllegalArgumentException("Invalid world size " + worldWidth + "x" + worldHeight);
+        }
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.entries = new RoomSaveEntry[worldWidth * worldHeight];
+    }
+
+    /**
+     * @return true if the room position is inside the world
+     */
+    public boolean isInside(int x, int y) {
+        return x >= 0 && x < worldWidth && y >= 0 && y < worldHeight;
+    }
+
+    /**
+     * @param coord packed room position
+     * @return the entry of the room, null if never visited
+     */
+    public RoomSaveEntry get(int coord) {
+        return entries[RoomCoord.toIndex(coord, worldWidth)];
+    }
+
+    public boolean contains(int coord) {
+        return Objects.nonNull(get(coord));
+    }
+
+    /**
+     * Sets the entry of the room in the entry position, replacing the old one
+     *
+     * @param entry
+     */
+    public void put(final RoomSaveEntry entry) {
+        Objects.requireNonNull(entry);
+        if (!isInside(entry.x, entry.y)) {
+            throw new IllegalArgumentException("Room " + entry.x + "," + entry.y + " is outside the world");
+        }
+
+        final int index = RoomCoord.toIndex(RoomCoord.pack(entry.x, entry.y), worldWidth);
+        if (Objects.isNull(entries[index])) {
+            size++;
+        }
+        entries[index] = entry;
+    }
+
+    /**
+     * @return number of visited rooms
+     */
+    public int size() {
+        return size;
+    }
+
+    public void forEach(final Consumer<RoomSaveEntry> action) {
+        Objects.requireNonNull(action);
+
+        for (RoomSaveEntry entry : entries) {
+            if (Objects.nonNull(entry)) {
+                action.accept(entry);
+            }
+        }
+    }
+
+    /**
+     * @return a new list of all the entries, for serialization
+     */
+    public List<RoomSaveEntry> getEntries() {
+        final List<RoomSaveEntry> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+}
@@ -1,7 +1,6 @@
 package faust.lhipgame.saves;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
@@ -21,7 +20,7 @@ public class SaveFileManager {
     private final Json jsonParser = new Json();
     private final String selectedFileName = "saves/mainWorldSave.json";
 
-    public String getStringSaveFile(PlayerInstance player, Map<Vector2, RoomSaveEntry> saveMap) {
+    public String getStringSaveFile(PlayerInstance player, RoomSaveTable saveTable) {
 
         //Player info
         List<String> entries = new ArrayList<>();
@@ -33,7 +32,7 @@ public class SaveFileManager {
         String playerInfo = getField("playerInfo", String.join(",", entries), true);
 
         //Append rooms
-        return "{" + playerInfo + "," + getField("rooms", jsonParser.toJson(saveMap.values())) + "}";
+        return "{" + playerInfo + "," + getField("rooms", jsonParser.toJson(saveTable.getEntries())) + "}";
     }
 
     /**
@@ -64,7 +63,7 @@ public class SaveFileManager {
         return selectedFileName;
     }
 
-    public void loadSave(PlayerInstance player, Map<Vector2, RoomSaveEntry> saveMap) throws SerializationException {
+    public void loadSave(PlayerInstance player, RoomSaveTable saveTable) throws SerializationException {
         JsonValue file = new JsonReader().parse(Gdx.files.local(selectedFileName));
 
         if (Objects.isNull(file)) {
@@ -74,16 +73,16 @@ public class SaveFileManager {
         setPlayerInfo(player, file);
 
         //Room Info
-        setRoomInfo(saveMap, file);
+        setRoomInfo(saveTable, file);
     }
 
     /**
-     * Set room info in savemap
+     * Set room info in save table
      *
-     * @param saveMap
+     * @param saveTable
      * @param file
      */
-    private void setRoomInfo(Map<Vector2, RoomSaveEntry> saveMap, JsonValue file) {
+    private void setRoomInfo(RoomSaveTable saveTable, JsonValue file) {
 
         //Already visited room Info
         JsonValue rooms = file.get("rooms");
@@ -93,20 +92,26 @@ public class SaveFileManager {
 
         //Main loop
         Map<RoomFlagEnum, Boolean> flags;
-        Vector2 v;
+        int x;
+        int y;
         int casualNumberPredefined = -1;
         JsonValue flagsJson;
 
         for (JsonValue roomSaveEntry : rooms) {
-            v = new Vector2(roomSaveEntry.getFloat("x"), roomSaveEntry.getFloat("y"));
+            x = roomSaveEntry.getInt("x");
+            y = roomSaveEntry.getInt("y");
+            if (!saveTable.isInside(x, y)) {
+                Gdx.app.log("WARN", "Saved room " + x + "," + y + " is outside the world, skipped");
+                continue;
+            }
 
             casualNumberPredefined = roomSaveEntry.getInt("casualNumber");
             Objects.requireNonNull(casualNumberPredefined);
 
             flagsJson = roomSaveEntry.get("savedFlags");
 
-            saveMap.put(v, new RoomSaveEntry(
-                    (int) v.x, (int) v.y, casualNumberPredefined,
+            saveTable.put(new RoomSaveEntry(
+                    x, y, casualNumberPredefined,
                     parseJsonFlags(flagsJson)));
         }
     }
@@ -151,9 +156,9 @@ public class SaveFileManager {
     /**
      * Save on filesystem the predefined numbers of the casual rooms
      */
-    public void saveOnFile(PlayerInstance player, Map<Vector2, RoomSaveEntry> saveMap) {
+    public void saveOnFile(PlayerInstance player, RoomSaveTable saveTable) {
 
-        String stringSave = getStringSaveFile(player, saveMap);
+        String stringSave = getStringSaveFile(player, saveTable);
         Gdx.files.local(getFileName()).writeString(stringSave, false);
     }
 
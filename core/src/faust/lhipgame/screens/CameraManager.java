@@ -1,18 +1,27 @@
 package faust.lhipgame.screens;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.viewport.FillViewport;
-import com.badlogic.gdx.utils.viewport.Viewport;
 import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.render.SolidFillRenderer;
 
 import java.util.Objects;
 
 /**
- * Camera manager class
+ * Camera manager class. The whole frame is rendered at native resolution inside a
+ * GAME_WIDTH x GAME_HEIGHT frame buffer, which is then blitted once to the screen
+ * with the biggest integer scale that fits, using nearest filtering.
  *
  * @author Jacopo "Faust" Buttiglieri
  */
@@ -20,17 +29,32 @@ public class CameraManager {
 
     private final OrthographicCamera camera;
     private final Box2DDebugRenderer box2DDebugRenderer;
-    private final Viewport viewport;
+    private final FrameBuffer frameBuffer;
+    private final Matrix4 screenProjection = new Matrix4();
 
-    private final ShapeRenderer background;
+    // Screen blit area, updated on resize
+    private int screenWidth;
+    private int screenHeight;
+    private int blitX;
+    private int blitY;
+    private int blitWidth;
+    private int blitHeight;
+
+    private final SolidFillRenderer solidFillRenderer;
     private static final Color back = new Color(0x595959ff);
 
-    public CameraManager() {
+    public CameraManager(SolidFillRenderer solidFillRenderer) {
+        Objects.requireNonNull(solidFillRenderer);
+
+        this.solidFillRenderer = solidFillRenderer;
         camera = new OrthographicCamera();
         camera.setToOrtho(false, LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT);
-        viewport = new FillViewport(LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT, camera);
         box2DDebugRenderer = new Box2DDebugRenderer();
-        background = new ShapeRenderer();
+
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT, false);
+        frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+
+        resize(Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
     }
 
     public OrthographicCamera getCamera() {
@@ -46,27 +70,80 @@ public class CameraManager {
         box2DDebugRenderer.render(world, camera.combined);
     }
 
-    public Viewport getViewport() {
-        return viewport;
+    /**
+     * Recalculates the integer scaled blit area, letterboxed in the center of the screen
+     *
+     * @param width  of the screen
+     * @param height of the screen
+     */
+    public void resize(int width, int height) {
+        screenWidth = Math.max(1, width);
+        screenHeight = Math.max(1, height);
+
+        final int scale = Math.max(1, Math.min(screenWidth / LHIPGame.GAME_WIDTH, screenHeight / LHIPGame.GAME_HEIGHT));
+        blitWidth = LHIPGame.GAME_WIDTH * scale;
+        blitHeight = LHIPGame.GAME_HEIGHT * scale;
+        blitX = (screenWidth - blitWidth) / 2;
+        blitY = (screenHeight - blitHeight) / 2;
+
+        screenProjection.setToOrtho2D(0, 0, screenWidth, screenHeight);
     }
 
     public void applyAndUpdate() {
-        viewport.apply();
         camera.update();
     }
 
     /**
-     * Render blank background
+     * Starts rendering the frame at native resolution. Everything drawn until
+     * endFrame is drawn inside the frame buffer
+     */
+    public void beginFrame() {
+        frameBuffer.begin();
+    }
+
+    /**
+     * Ends the native resolution frame and draws it to the screen with a single
+     * integer scaled quad
+     *
+     * @param batch must not be drawing
+     */
+    public void endFrame(SpriteBatch batch) {
+        Objects.requireNonNull(batch);
+
+        frameBuffer.end();
+
+        // Letterbox
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        batch.setProjectionMatrix(screenProjection);
+        batch.begin();
+        // Frame buffer texture is upside down
+        batch.draw(frameBuffer.getColorBufferTexture(), blitX, blitY, blitWidth, blitHeight,
+                0, 0, LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT, false, true);
+        batch.end();
+    }
+
+    /**
+     * Render blank background. Batch must be drawing
+     *
+     * @param batch
+     */
+    public void renderBackground(Batch batch) {
+        solidFillRenderer.fillRect(batch, 0, 0, LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT, back);
+    }
+
+    /**
+     * Submits blank background on the current layer of the queue
+     *
+     * @param queue
      */
-    public void renderBackground() {
-        background.setColor(back);
-        background.setProjectionMatrix(camera.combined);
-        background.begin(ShapeRenderer.ShapeType.Filled);
-        background.rect(0, 0, LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT);
-        background.end();
+    public void renderBackground(RenderQueue queue) {
+        queue.submitRect(0, 0, LHIPGame.GAME_WIDTH, LHIPGame.GAME_HEIGHT, back);
     }
 
     public void dispose() {
         box2DDebugRenderer.dispose();
+        frameBuffer.dispose();
     }
 }
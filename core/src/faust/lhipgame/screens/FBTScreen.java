@@ -2,10 +2,12 @@ package faust.lhipgame.screens;
 
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.utils.Timer;
 import faust.lhipgame.LHIPGame;
+import faust.lhipgame.game.gameentities.GameEntity;
 
 public class FBTScreen implements Screen {
 
@@ -28,10 +30,10 @@ public class FBTScreen implements Screen {
         assetManager.load("splash/title_splash.png", Texture.class);
         assetManager.finishLoading();
 
-        assetManager.load("fonts/main_font.fnt", BitmapFont.class);
-        assetManager.finishLoading();
-
-        assetManager.load("fonts/main_font.png", Texture.class);
+        // Font page is packed in the game atlas, already loaded
+        BitmapFontLoader.BitmapFontParameter fontParameter = new BitmapFontLoader.BitmapFontParameter();
+        fontParameter.atlasName = GameEntity.ATLAS_FILE;
+        assetManager.load("fonts/main_font.fnt", BitmapFont.class, fontParameter);
         assetManager.finishLoading();
 
         //Two seconds splash screen
@@ -48,10 +50,10 @@ public class FBTScreen implements Screen {
 
         cameraManager.applyAndUpdate();
         game.getBatch().setProjectionMatrix(cameraManager.getCamera().combined);
-        cameraManager.renderBackground();
 
         //Load screen
         game.getBatch().begin();
+        cameraManager.renderBackground(game.getBatch());
         game.getBatch().draw(fbtScreen,0,0);
         game.getBatch().end();
 
@@ -59,7 +61,7 @@ public class FBTScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        cameraManager.getViewport().update(width, height);
+        cameraManager.resize(width, height);
     }
 
     @Override
@@ -69,7 +69,7 @@ public class GameOverScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        cameraManager.getViewport().update(width, height);
+        cameraManager.resize(width, height);
     }
 
     @Override
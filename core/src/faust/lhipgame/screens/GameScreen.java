@@ -1,6 +1,7 @@
 package faust.lhipgame.screens;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
@@ -10,7 +11,12 @@ import faust.lhipgame.game.hud.DarknessRenderer;
 import faust.lhipgame.game.hud.Hud;
 import faust.lhipgame.game.instances.impl.PlayerInstance;
 import faust.lhipgame.game.music.MusicManager;
+import faust.lhipgame.game.profiler.FrameProfiler;
+import faust.lhipgame.game.profiler.enums.ProfilerPhaseEnum;
+import faust.lhipgame.game.render.RenderQueue;
+import faust.lhipgame.game.render.enums.RenderLayerEnum;
 import faust.lhipgame.game.rooms.manager.RoomsManager;
+import faust.lhipgame.game.scheduler.GameScheduler;
 import faust.lhipgame.game.splash.SplashManager;
 import faust.lhipgame.game.textbox.manager.TextBoxManager;
 import faust.lhipgame.game.world.manager.WorldManager;
@@ -18,6 +24,7 @@ import faust.lhipgame.game.world.manager.WorldManager;
 public class GameScreen implements Screen {
 
     public static final long FLICKER_DURATION_IN_NANO = 125000000; // 1/8 second in nanoseconds
+    private static final float MAX_FRAME_TIME = 0.25f; // At most 15 ticks per frame
 
     private final AssetManager assetManager;
     private final CameraManager cameraManager;
@@ -30,8 +37,13 @@ public class GameScreen implements Screen {
     private Hud hud;
     private DarknessRenderer darknessRenderer;
     private SplashManager splashManager;
+    private RenderQueue renderQueue;
+    private FrameProfiler frameProfiler;
+    // Clock of splash and text boxes, runs also while game logic is frozen
+    private GameScheduler uiScheduler;
 
     private float stateTime = 0f;
+    private float accumulator = 0f;
 
     private final LHIPGame game;
 
@@ -47,17 +59,20 @@ public class GameScreen implements Screen {
         Box2D.init();
 
         worldManager = new WorldManager();
-        textManager = new TextBoxManager(assetManager);
+        uiScheduler = new GameScheduler(WorldManager.TIME_STEP);
+        textManager = new TextBoxManager(assetManager, uiScheduler);
         hud = new Hud(textManager,assetManager);
-        splashManager = new SplashManager(textManager,assetManager);
+        splashManager = new SplashManager(textManager,assetManager, uiScheduler);
         musicManager.initTuneMap(assetManager);
         darknessRenderer = new DarknessRenderer(assetManager);
+        renderQueue = new RenderQueue(game.getBatch(), game.getSolidFillRenderer());
+        frameProfiler = new FrameProfiler(game.isProfilerEnabled());
 
         // Creating player and making it available to input processor
         player = new PlayerInstance(assetManager);
 
         roomsManager = new RoomsManager(worldManager, textManager, splashManager, player, cameraManager.getCamera(),
-                assetManager, game.getSaveFileManager(), game.getMusicManager());
+                assetManager, game.getSaveFileManager(), game.getMusicManager(), game.getRoomTemplateCache());
 
 
     }
@@ -65,29 +80,88 @@ public class GameScreen implements Screen {
     @Override
     public void render(float delta) {
 
-        // Stops game logic if splash screen is shown
-        if (!splashManager.isDrawingSplash()) {
-            doLogic();
-            worldManager.doStep();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            frameProfiler.toggle();
         }
+        frameProfiler.beginFrame();
+
+        // Adjacent rooms are loaded in background
+        roomsManager.updatePrefetch();
+
+        uiScheduler.advance(delta);
 
-        stateTime += Gdx.graphics.getDeltaTime();
+        // Stops game logic and game clock if splash screen is shown
+        if (splashManager.isDrawingSplash()) {
+            accumulator = 0;
+        } else {
+            // Fixed step simulation, decoupled from frame rate. Frame time is clamped so that
+            // after a long stall the game does not try to catch up with too many ticks
+            accumulator += Math.min(delta, MAX_FRAME_TIME);
+
+            while (accumulator >= WorldManager.TIME_STEP) {
+                // Timed behaviours happen at tick start, state time is derived from the game clock
+                frameProfiler.begin(ProfilerPhaseEnum.LOGIC);
+                worldManager.getScheduler().tick();
+                stateTime = (float) worldManager.getScheduler().getTime();
+                doLogic();
+                frameProfiler.end(ProfilerPhaseEnum.LOGIC);
+
+                // Game is over, this screen must not go on
+                if (game.getScreen() != this) {
+                    return;
+                }
+
+                frameProfiler.begin(ProfilerPhaseEnum.STEP);
+                worldManager.doStep();
+                roomsManager.updateCurrentRoomSpatialIndex();
+                frameProfiler.end(ProfilerPhaseEnum.STEP);
+
+                accumulator -= WorldManager.TIME_STEP;
+
+                // Splash may have been activated by this tick
+                if (splashManager.isDrawingSplash()) {
+                    accumulator = 0;
+                }
+            }
+
+            roomsManager.interpolateCurrentRoomContents(accumulator / WorldManager.TIME_STEP);
+
+            if (frameProfiler.isEnabled()) {
+                worldManager.measureContacts();
+                frameProfiler.setContactCounts(worldManager.getCollisionManager().getLastContactCount(),
+                        worldManager.getCollisionManager().getLastUnexpectedContactCount());
+            }
+        }
         Gdx.gl.glClearColor(0f, 0f, 0f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         cameraManager.applyAndUpdate();
         game.getBatch().setProjectionMatrix(cameraManager.getCamera().combined);
 
+        renderQueue.clear();
+
         if (!splashManager.isDrawingSplash()) {
             //Draw gray background
+            frameProfiler.begin(ProfilerPhaseEnum.BACKGROUND);
             drawBackground();
+            frameProfiler.end(ProfilerPhaseEnum.BACKGROUND);
 
             //Draw Room and all contents
+            frameProfiler.begin(ProfilerPhaseEnum.CONTENTS);
             drawRoomAndContents(stateTime);
+            frameProfiler.end(ProfilerPhaseEnum.CONTENTS);
         }
 
         //Draw all overlays
         drawOverlays();
+        frameProfiler.drawOverlay(renderQueue, textManager.getMainFont());
+
+        //Everything is drawn in a single pass
+        frameProfiler.begin(ProfilerPhaseEnum.FLUSH);
+        renderQueue.flush(cameraManager.getCamera());
+        frameProfiler.end(ProfilerPhaseEnum.FLUSH);
+
+        frameProfiler.endFrame();
 
 //        cameraManager.box2DDebugRenderer(worldManager.getWorld());
 
@@ -95,31 +169,38 @@ public class GameScreen implements Screen {
 
     private void drawOverlays() {
         //Draw overlay tiles
-        roomsManager.drawCurrentRoomOverlays();
+        frameProfiler.begin(ProfilerPhaseEnum.OVERLAYS);
+        roomsManager.drawCurrentRoomOverlays(renderQueue);
+        frameProfiler.end(ProfilerPhaseEnum.OVERLAYS);
 
         // Draw splash XOR hud
+        frameProfiler.begin(ProfilerPhaseEnum.HUD);
+        renderQueue.setLayer(RenderLayerEnum.UI);
         if (splashManager.isDrawingSplash()) {
-            splashManager.drawSplash(game.getBatch());
+            splashManager.drawSplash(renderQueue);
         } else {
-            hud.drawHud(game.getBatch(), player, cameraManager.getCamera());
-            darknessRenderer.drawDarkness(game.getBatch(), player, cameraManager.getCamera());
+            hud.drawHud(renderQueue, player);
+            darknessRenderer.drawDarkness(renderQueue, player);
         }
+        frameProfiler.end(ProfilerPhaseEnum.HUD);
+
         // draw text
-        textManager.renderTextBoxes(game.getBatch(), player, cameraManager.getCamera(), splashManager.isDrawingSplash());
+        frameProfiler.begin(ProfilerPhaseEnum.TEXT);
+        textManager.renderTextBoxes(renderQueue, player, splashManager.isDrawingSplash());
+        frameProfiler.end(ProfilerPhaseEnum.TEXT);
     }
 
     private void drawRoomAndContents(float stateTime) {
-        roomsManager.drawCurrentRoomContents(game.getBatch(), stateTime);
+        roomsManager.drawCurrentRoomContents(renderQueue, stateTime);
     }
 
     /**
-     * Draws the background color and terrain tiles
+     * Submits the background color and terrain tiles
      */
     private void drawBackground() {
-        game.getBatch().begin();
-        cameraManager.renderBackground();
-        game.getBatch().end();
-        roomsManager.drawCurrentRoomBackground();
+        renderQueue.setLayer(RenderLayerEnum.TERRAIN);
+        cameraManager.renderBackground(renderQueue);
+        roomsManager.drawCurrentRoomBackground(renderQueue);
     }
 
     /**
@@ -140,7 +221,7 @@ public class GameScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        cameraManager.getViewport().update(width, height);
+        cameraManager.resize(width, height);
     }
 
     @Override
@@ -155,7 +236,8 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
-
+        // Stops intercepting GL calls
+        frameProfiler.setEnabled(false);
     }
 
     @Override
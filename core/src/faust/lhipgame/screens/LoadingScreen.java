@@ -6,9 +6,7 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import faust.lhipgame.LHIPGame;
-import faust.lhipgame.game.echoes.enums.EchoesActorType;
 import faust.lhipgame.game.music.MusicManager;
 
 public class LoadingScreen implements Screen {
@@ -19,10 +17,8 @@ public class LoadingScreen implements Screen {
     private final MusicManager musicManager;
     private final Texture loadScreen;
 
-    private final ShapeRenderer backgroundBox = new ShapeRenderer();
     private static final Color back = new Color(0x666666ff);
 
-    private final ShapeRenderer cornerBox = new ShapeRenderer();
     private static final Color corner = new Color(0xffffffff);
 
     public LoadingScreen(LHIPGame game) {
@@ -36,14 +32,10 @@ public class LoadingScreen implements Screen {
     @Override
     public void show() {
 
-        assetManager.load("sprites/walfrit_sheet.png", Texture.class);
-        assetManager.load("sprites/decorations_sheet.png", Texture.class);
-        assetManager.load("sprites/poi_sheet.png", Texture.class);
-        assetManager.load("sprites/shadow.png", Texture.class);
-        assetManager.load("sprites/bounded_sheet.png", Texture.class);
-        assetManager.load("sprites/strix_sheet.png", Texture.class);
-        assetManager.load("sprites/hive_sheet.png", Texture.class);
-        assetManager.load("sprites/spitter_sheet.png", Texture.class);
+        // Room templates are compiled in parallel while assets are loading
+        game.getRoomTemplateCache().warmUp();
+
+        // All sprite sheets, hud and font are packed in the game atlas, already loaded with the font
 
         assetManager.load("sounds/SFX_collect&bonus13.ogg", Sound.class);
         assetManager.load("sounds/SFX_hit&damage13.ogg", Sound.class);
@@ -64,12 +56,6 @@ public class LoadingScreen implements Screen {
         assetManager.load("splash/bounded_splash.png", Texture.class);
         assetManager.load("splash/morgengabe_splash.png", Texture.class);
         assetManager.load("splash/gameover_splash.png", Texture.class);
-        assetManager.load("sprites/hud.png", Texture.class);
-        assetManager.load("sprites/darkness_overlay.png", Texture.class);
-
-        for(EchoesActorType echoActor : EchoesActorType.values()){
-            assetManager.load(echoActor.getSpriteFilename(), Texture.class);
-        }
     }
 
     @Override
@@ -79,7 +65,8 @@ public class LoadingScreen implements Screen {
         game.getBatch().setProjectionMatrix(cameraManager.getCamera().combined);
 
         assetManager.update();
-        if(assetManager.isFinished()){
+        final boolean templatesReady = game.getRoomTemplateCache().update();
+        if(assetManager.isFinished() && templatesReady){
             game.setScreen(new GameScreen(game));
         }
 
@@ -88,21 +75,11 @@ public class LoadingScreen implements Screen {
         //Load screen
         game.getBatch().begin();
         game.getBatch().draw(loadScreen,0,0);
-        game.getBatch().end();
 
         //Black Corner
-        game.getBatch().begin();
-        backgroundBox.setColor(back);
-        backgroundBox.setProjectionMatrix(cameraManager.getCamera().combined);
-        backgroundBox.begin(ShapeRenderer.ShapeType.Filled);
-        backgroundBox.rect(10, LHIPGame.GAME_HEIGHT/2-6, LHIPGame.GAME_WIDTH-20,  10);
-        backgroundBox.end();
-
-        cornerBox.setColor(corner);
-        cornerBox.setProjectionMatrix(cameraManager.getCamera().combined);
-        cornerBox.begin(ShapeRenderer.ShapeType.Filled);
-        cornerBox.rect(12, LHIPGame.GAME_HEIGHT/2-5, (float) (LHIPGame.GAME_WIDTH-25 - (100-loadingProgress)), 8);
-        cornerBox.end();
+        game.getSolidFillRenderer().fillRect(game.getBatch(), 10, LHIPGame.GAME_HEIGHT/2-6, LHIPGame.GAME_WIDTH-20,  10, back);
+
+        game.getSolidFillRenderer().fillRect(game.getBatch(), 12, LHIPGame.GAME_HEIGHT/2-5, (float) (LHIPGame.GAME_WIDTH-25 - (100-loadingProgress)), 8, corner);
         game.getBatch().end();
 
         Gdx.app.log("DEBUG", "Loading progress: " + loadingProgress + "%" );
@@ -110,7 +87,7 @@ public class LoadingScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        cameraManager.getViewport().update(width, height);
+        cameraManager.resize(width, height);
     }
 
     @Override
@@ -71,7 +71,7 @@ public class MenuScreen implements Screen {
 
     @Override
     public void resize(int width, int height) {
-        cameraManager.getViewport().update(width, height);
+        cameraManager.resize(width, height);
     }
 
     @Override
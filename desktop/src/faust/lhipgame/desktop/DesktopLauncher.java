@@ -4,15 +4,18 @@ import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import faust.lhipgame.LHIPGame;
 
+import java.util.Arrays;
+
 public class DesktopLauncher {
 	private static final int SCALE_FACTOR = 4;
+	private static final String PROFILE_FLAG = "--profile";
 
 	public static void main (String[] arg) {
 		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
 		config.title = "LHIP";
-		config.resizable = false;
+		config.resizable = true;
 		config.width = LHIPGame.GAME_WIDTH * SCALE_FACTOR;
 		config.height = LHIPGame.GAME_HEIGHT * SCALE_FACTOR;
-		new LwjglApplication(new LHIPGame(), config);
+		new LwjglApplication(new LHIPGame(Arrays.asList(arg).contains(PROFILE_FLAG)), config);
 	}
 }